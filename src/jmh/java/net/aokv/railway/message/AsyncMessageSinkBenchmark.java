@@ -0,0 +1,70 @@
+package net.aokv.railway.message;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Reports failure Messages to a sink that prints them, like a logger, once on the reporting thread
+ * and once through an AsyncMessageSink. Measures the time the reporting thread spends per
+ * Message, including its percentiles.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AsyncMessageSinkBenchmark
+{
+	private final PrintStream out = new PrintStream(new OutputStream()
+	{
+		@Override
+		public void write(final int b)
+		{
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len)
+		{
+		}
+	});
+	private final MessageSink printing = message -> out.println(message);
+	private final Message message = Message.create()
+			.withCode(42)
+			.withSource("OrderService")
+			.withText("Order 4711 could not be saved.")
+			.withDetails(new IllegalStateException("Connection lost"))
+			.build();
+	private AsyncMessageSink async;
+
+	@Setup
+	public void startSink()
+	{
+		async = AsyncMessageSink.create(printing).withCapacity(4096).build();
+	}
+
+	@TearDown
+	public void closeSink()
+	{
+		async.close();
+	}
+
+	@Benchmark
+	public void synchronous()
+	{
+		printing.accept(message);
+	}
+
+	@Benchmark
+	public void asynchronous()
+	{
+		async.accept(message);
+	}
+}
@@ -0,0 +1,48 @@
+package net.aokv.railway.message;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import net.aokv.railway.result.Result;
+
+/**
+ * Converts an exception of a failed call into a failed Result, once as an expected exception and
+ * once with its stack trace as details. The exception is created up front, so only the conversion
+ * is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ExceptionMessagesBenchmark
+{
+	private static final Function<Exception, Message> EXPECTED = ExceptionMessages.toMessage(SQLException.class);
+	private static final Function<Exception, Message> UNEXPECTED = ExceptionMessages.toMessage();
+
+	private final SQLException exception = new SQLException("Query timed out");
+
+	private String query()
+			throws SQLException
+	{
+		throw exception;
+	}
+
+	@Benchmark
+	public Result<String, Message> expected()
+	{
+		return Result.attempt(this::query, EXPECTED);
+	}
+
+	@Benchmark
+	public Result<String, Message> unexpected()
+	{
+		return Result.attempt(this::query, UNEXPECTED);
+	}
+}
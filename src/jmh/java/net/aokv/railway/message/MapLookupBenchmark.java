@@ -0,0 +1,92 @@
+package net.aokv.railway.message;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.aokv.railway.valueobjects.ValueObject;
+
+/**
+ * Looks up Messages and ValueObjects in HashMaps. The keys are equal copies of the map's keys, so
+ * every hit compares two different instances.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MapLookupBenchmark
+{
+	private static final int KEYS = 1000;
+
+	@SuppressWarnings("serial")
+	private static final class CustomerId extends ValueObject<String>
+	{
+		private CustomerId(final String value)
+		{
+			super(value);
+		}
+	}
+
+	private final Map<Message, Integer> messages = new HashMap<>();
+	private final Map<CustomerId, Integer> customerIds = new HashMap<>();
+	private final Message[] messageKeys = new Message[KEYS];
+	private final CustomerId[] customerIdKeys = new CustomerId[KEYS];
+
+	@Setup
+	public void fillMaps()
+	{
+		for (int i = 0; i < KEYS; i++)
+		{
+			messages.put(message(i), i);
+			customerIds.put(new CustomerId(customerId(i)), i);
+			messageKeys[(i * 37) % KEYS] = message(i);
+			customerIdKeys[(i * 37) % KEYS] = new CustomerId(customerId(i));
+		}
+	}
+
+	private static Message message(final int i)
+	{
+		return Message.create()
+				.withCode(i % 50)
+				.withLevel(MessageLevel.ERROR)
+				.withIndex(i)
+				.withSource("OrderValidation")
+				.withText("Invalid order line " + i)
+				.withDetails("Quantity must be positive.")
+				.build();
+	}
+
+	private static String customerId(final int i)
+	{
+		return String.format("CUST-%08d", i);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(KEYS)
+	public void message(final Blackhole blackhole)
+	{
+		for (final Message key : messageKeys)
+		{
+			blackhole.consume(messages.get(key));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(KEYS)
+	public void valueObject(final Blackhole blackhole)
+	{
+		for (final CustomerId key : customerIdKeys)
+		{
+			blackhole.consume(customerIds.get(key));
+		}
+	}
+}
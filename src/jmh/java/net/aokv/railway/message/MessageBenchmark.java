@@ -0,0 +1,56 @@
+package net.aokv.railway.message;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Creates Messages with and without a given source. Without one, the source is captured from the
+ * call stack. Also creates Messages with an error as details, which are retained but not read, and
+ * Messages from a shared builder as template.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MessageBenchmark
+{
+	private String text = "The error";
+	private Exception exception = new IllegalStateException("Connection lost", new IOException("Timeout"));
+	private final Message.MessageBuilder template = Message.createError().withCode(42).withSource("Source");
+
+	@Benchmark
+	public Message build()
+	{
+		return Message.create().build();
+	}
+
+	@Benchmark
+	public Message withError()
+	{
+		return Message.withError(text);
+	}
+
+	@Benchmark
+	public Message withSource()
+	{
+		return Message.create().withSource("Source").withText(text).build();
+	}
+
+	@Benchmark
+	public Message fromTemplate()
+	{
+		return template.build();
+	}
+
+	@Benchmark
+	public Message withException()
+	{
+		return Message.create().withSource("Source").withText(text).withDetails(exception).build();
+	}
+}
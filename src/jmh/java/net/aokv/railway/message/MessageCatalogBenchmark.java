@@ -0,0 +1,86 @@
+package net.aokv.railway.message;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Provides the Messages for a few hundred error codes, by building them for every failure, by
+ * looking them up in a map and by looking them up in a MessageCatalog.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MessageCatalogBenchmark
+{
+	private static final int MESSAGES = 300;
+
+	@Param({ "DENSE", "SPARSE" })
+	private String codes;
+
+	private int[] lookups;
+	private MessageCatalog catalog;
+	private Map<Integer, Message> map;
+
+	@Setup
+	public void createCatalog()
+	{
+		final MessageCatalog.MessageCatalogBuilder builder = MessageCatalog.create();
+		map = new HashMap<>();
+		lookups = new int[MESSAGES];
+		for (int i = 0; i < MESSAGES; i++)
+		{
+			final int code = "DENSE".equals(codes) ? 1000 + i : i * 7919 * 31;
+			lookups[(i * 37) % MESSAGES] = code;
+			builder.withMessage(code, MessageLevel.ERROR, "Error " + code);
+			map.put(code, builder.build().get(code));
+		}
+		catalog = builder.build();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void build(final Blackhole blackhole)
+	{
+		for (final int code : lookups)
+		{
+			blackhole.consume(Message.create()
+					.withCode(code)
+					.withLevel(MessageLevel.ERROR)
+					.withSource("Source")
+					.withText("Error")
+					.build());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void map(final Blackhole blackhole)
+	{
+		for (final int code : lookups)
+		{
+			blackhole.consume(map.get(code));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void catalog(final Blackhole blackhole)
+	{
+		for (final int code : lookups)
+		{
+			blackhole.consume(catalog.get(code));
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package net.aokv.railway.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Writes and reads a Message with Java serialization and with the MessageCodec. The codec runs
+ * once with a new Encoder and Decoder per Message, so all strings are written, and once as a
+ * stream of Messages, where repeated strings are only referenced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MessageCodecBenchmark
+{
+	private final Message message = Message.create()
+			.withCode(4711)
+			.withLevel(MessageLevel.ERROR)
+			.withIndex(3)
+			.withSource("changePassword")
+			.withText("Invalid password")
+			.withDetails("Password does not match")
+			.build();
+	private final ByteBuffer buffer = ByteBuffer.allocate(1024);
+	private final MessageCodec.Encoder encoder = MessageCodec.newEncoder();
+	private final MessageCodec.Decoder decoder = MessageCodec.newDecoder();
+
+	@Benchmark
+	public Message serialization() throws IOException, ClassNotFoundException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes))
+		{
+			output.writeObject(message);
+		}
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			return (Message) input.readObject();
+		}
+	}
+
+	@Benchmark
+	public Message codec()
+	{
+		buffer.clear();
+		MessageCodec.newEncoder().encode(message, buffer).flip();
+		return MessageCodec.newDecoder().decode(buffer);
+	}
+
+	@Benchmark
+	public Message codecStream()
+	{
+		buffer.clear();
+		encoder.encode(message, buffer).flip();
+		return decoder.decode(buffer);
+	}
+}
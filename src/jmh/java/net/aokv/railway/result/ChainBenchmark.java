@@ -0,0 +1,163 @@
+package net.aokv.railway.result;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Runs the same validation logic as a <code>map</code>/<code>flatMap</code>/<code>ensure</code>
+ * chain, with exceptions and with <code>Optional</code>. Each stage checks that the value is not
+ * negative, increments it and checks an upper limit. Negative inputs fail at the first stage.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ChainBenchmark
+{
+	private static final int INPUTS = 1024;
+	private static final int LIMIT = Integer.MAX_VALUE - 100;
+	private static final String NEGATIVE = "Value may not be negative";
+	private static final String TOO_LARGE = "Value is too large";
+
+	private static final Predicate<Integer> IS_NOT_NEGATIVE = value -> value >= 0;
+	private static final Function<Integer, Integer> INCREMENT = value -> value + 1;
+	private static final Function<Integer, Result<Integer, String>> CHECK_LIMIT = value -> value <= LIMIT
+			? Result.withValue(value)
+			: Result.withError(TOO_LARGE);
+
+	public enum Mix
+	{
+		SUCCESS_HEAVY(0.1),
+		FAILURE_HEAVY(0.9);
+
+		private final double failureRate;
+
+		Mix(final double failureRate)
+		{
+			this.failureRate = failureRate;
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class ValidationException extends Exception
+	{
+		ValidationException(final String message)
+		{
+			super(message);
+		}
+	}
+
+	@Param({ "1", "5", "10" })
+	private int depth;
+
+	@Param
+	private Mix mix;
+
+	private int[] inputs;
+
+	@Setup
+	public void createInputs()
+	{
+		final Random random = new Random(42);
+		inputs = new int[INPUTS];
+		for (int i = 0; i < INPUTS; i++)
+		{
+			final int value = random.nextInt(1000);
+			inputs[i] = random.nextDouble() < mix.failureRate ? -value - 1 : value;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INPUTS)
+	public void result(final Blackhole blackhole)
+	{
+		for (final int input : inputs)
+		{
+			Result<Integer, String> result = Result.withValue(input);
+			for (int stage = 0; stage < depth; stage++)
+			{
+				result = result
+						.ensure(IS_NOT_NEGATIVE, NEGATIVE)
+						.map(INCREMENT)
+						.flatMap(CHECK_LIMIT);
+			}
+			blackhole.consume(result.isSuccess() ? result.getValue() : result.getError());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INPUTS)
+	public void exceptions(final Blackhole blackhole)
+	{
+		for (final int input : inputs)
+		{
+			try
+			{
+				int value = input;
+				for (int stage = 0; stage < depth; stage++)
+				{
+					value = checkLimit(increment(checkNotNegative(value)));
+				}
+				blackhole.consume(value);
+			}
+			catch (final ValidationException exception)
+			{
+				blackhole.consume(exception.getMessage());
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INPUTS)
+	public void optional(final Blackhole blackhole)
+	{
+		for (final int input : inputs)
+		{
+			Optional<Integer> optional = Optional.of(input);
+			for (int stage = 0; stage < depth; stage++)
+			{
+				optional = optional
+						.filter(IS_NOT_NEGATIVE)
+						.map(INCREMENT)
+						.flatMap(value -> value <= LIMIT ? Optional.of(value) : Optional.empty());
+			}
+			blackhole.consume(optional.isPresent() ? optional.get() : NEGATIVE);
+		}
+	}
+
+	private static int checkNotNegative(final int value) throws ValidationException
+	{
+		if (value < 0)
+		{
+			throw new ValidationException(NEGATIVE);
+		}
+		return value;
+	}
+
+	private static int increment(final int value)
+	{
+		return value + 1;
+	}
+
+	private static int checkLimit(final int value) throws ValidationException
+	{
+		if (value > LIMIT)
+		{
+			throw new ValidationException(TOO_LARGE);
+		}
+		return value;
+	}
+}
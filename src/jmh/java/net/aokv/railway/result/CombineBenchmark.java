@@ -0,0 +1,73 @@
+package net.aokv.railway.result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of <code>Result.combine</code> over preconditions that are all successful or fail at the
+ * first or last position.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CombineBenchmark
+{
+	public enum Outcome
+	{
+		ALL_SUCCESSFUL,
+		FIRST_FAILED,
+		LAST_FAILED
+	}
+
+	@Param({ "3", "10" })
+	private int size;
+
+	@Param
+	private Outcome outcome;
+
+	private Result<String, String>[] results;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void createResults()
+	{
+		results = (Result<String, String>[]) new Result<?, ?>[size];
+		for (int i = 0; i < size; i++)
+		{
+			results[i] = Result.withValue("Value " + i);
+		}
+		if (outcome == Outcome.FIRST_FAILED)
+		{
+			results[0] = Result.withError("Error");
+		}
+		else if (outcome == Outcome.LAST_FAILED)
+		{
+			results[size - 1] = Result.withError("Error");
+		}
+	}
+
+	@Benchmark
+	public Result<String, String> combineStatically()
+	{
+		return Result.combine(results);
+	}
+
+	@Benchmark
+	public Result<?, String> combineFluently()
+	{
+		Result<?, String> combined = results[0];
+		for (int i = 1; i < size; i++)
+		{
+			combined = combined.combine(results[i]);
+		}
+		return combined;
+	}
+}
@@ -0,0 +1,72 @@
+package net.aokv.railway.result;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Calls methods of Result on call sites that see both Success and Failure, and checks the type of
+ * Results with <code>instanceof</code>. Run it against the classes directory and against the
+ * multi-release jar on Java 17 to compare the open hierarchy with the sealed one. So far, both
+ * give the same times, as HotSpot already inlines these bimorphic call sites.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DispatchBenchmark
+{
+	private static final int INPUTS = 1024;
+	private static final Function<Integer, Integer> INCREMENT = value -> value + 1;
+
+	private final Result<Integer, String>[] results = createResults();
+
+	@SuppressWarnings("unchecked")
+	private static Result<Integer, String>[] createResults()
+	{
+		final Random random = new Random(42);
+		final Result<Integer, String>[] results = (Result<Integer, String>[]) new Result<?, ?>[INPUTS];
+		for (int i = 0; i < INPUTS; i++)
+		{
+			results[i] = random.nextBoolean() ? Result.withValue(i) : Result.withError("Error");
+		}
+		return results;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INPUTS)
+	public int map()
+	{
+		int failures = 0;
+		for (final Result<Integer, String> result : results)
+		{
+			if (result.map(INCREMENT).isFailure())
+			{
+				failures++;
+			}
+		}
+		return failures;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INPUTS)
+	public long instanceOf()
+	{
+		long sum = 0;
+		for (final Result<Integer, String> result : results)
+		{
+			if (result instanceof Success)
+			{
+				sum += ((Success<Integer, String>) result).getValueOrNull();
+			}
+		}
+		return sum;
+	}
+}
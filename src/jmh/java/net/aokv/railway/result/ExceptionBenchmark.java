@@ -0,0 +1,66 @@
+package net.aokv.railway.result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Uses the exceptions of Result for control flow, with and without stack traces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ExceptionBenchmark
+{
+	@Param({ "false", "true" })
+	private boolean stackless;
+
+	private Result<Integer, String> failure = Result.withError("Error");
+	private Result<Void, String> empty = Result.withoutValue();
+
+	@Setup
+	public void setMode()
+	{
+		ResultExceptions.setStackless(stackless);
+	}
+
+	@TearDown
+	public void resetMode()
+	{
+		ResultExceptions.setStackless(false);
+	}
+
+	@Benchmark
+	public int failedResultHasNoValue()
+	{
+		try
+		{
+			return failure.getValue();
+		}
+		catch (final FailedResultHasNoValueException exception)
+		{
+			return -1;
+		}
+	}
+
+	@Benchmark
+	public Void emptyResultHasNoValue()
+	{
+		try
+		{
+			return empty.getValue();
+		}
+		catch (final EmptyResultHasNoValueException exception)
+		{
+			return null;
+		}
+	}
+}
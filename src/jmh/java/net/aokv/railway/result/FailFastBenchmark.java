@@ -0,0 +1,62 @@
+package net.aokv.railway.result;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates a list in a parallel stream, once with a plain <code>map</code> that evaluates all
+ * inputs and once with the fail-fast adapter of {@link ResultStreams}. With a failure in the first
+ * percent of the inputs, the fail-fast version only evaluates the inputs up to it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FailFastBenchmark
+{
+	private static final int INPUTS = 100_000;
+	private static final String INVALID = "Invalid input";
+
+	@Param({ "-1", "500" })
+	private int failingInput;
+
+	private List<Integer> inputs;
+	private Function<Integer, Result<Integer, String>> validate;
+
+	@Setup
+	public void createInputs()
+	{
+		inputs = IntStream.range(0, INPUTS).boxed().collect(Collectors.toList());
+		validate = input ->
+		{
+			Blackhole.consumeCPU(50);
+			return input >= failingInput && failingInput >= 0
+					? Result.withError(INVALID)
+					: Result.withValue(input);
+		};
+	}
+
+	@Benchmark
+	public Result<List<Integer>, String> parallelStream()
+	{
+		return inputs.parallelStream().map(validate).collect(ResultCollectors.toResult());
+	}
+
+	@Benchmark
+	public Result<List<Integer>, String> failFast()
+	{
+		return ResultStreams.collectParallel(inputs.spliterator(), validate, Collectors.toList());
+	}
+}
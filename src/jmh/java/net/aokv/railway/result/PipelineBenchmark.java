@@ -0,0 +1,47 @@
+package net.aokv.railway.result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Runs the same validation as a chain that is built per call and as a predefined Pipeline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PipelineBenchmark
+{
+	private static final String TOO_SHORT = "Too short";
+	private static final String TOO_LONG = "Too long";
+
+	private static final Pipeline<String, Integer, String> PIPELINE = Pipeline.<String, String> start()
+			.map(String::trim)
+			.ensure(value -> value.length() > 2, TOO_SHORT)
+			.map(String::length)
+			.flatMap(length -> length < 100 ? Result.withValue(length) : Result.withError(TOO_LONG));
+
+	private String input = " The value ";
+	private int minimum = 2;
+
+	@Benchmark
+	public Result<Integer, String> chain()
+	{
+		return Result.<String, String> withValue(input)
+				.map(String::trim)
+				.ensure(value -> value.length() > minimum, TOO_SHORT)
+				.map(String::length)
+				.flatMap(length -> length < 100 ? Result.withValue(length) : Result.withError(TOO_LONG));
+	}
+
+	@Benchmark
+	public Result<Integer, String> pipeline()
+	{
+		return PIPELINE.apply(input);
+	}
+}
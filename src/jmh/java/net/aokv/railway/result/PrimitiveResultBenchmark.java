@@ -0,0 +1,68 @@
+package net.aokv.railway.result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Sums prices through a numeric railway chain with boxed and primitive Results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PrimitiveResultBenchmark
+{
+	private static final int INPUTS = 1024;
+	private static final String INVALID = "Invalid price";
+
+	private int[] prices;
+
+	@Setup
+	public void createPrices()
+	{
+		prices = new int[INPUTS];
+		for (int i = 0; i < INPUTS; i++)
+		{
+			prices[i] = 1000 + i * 7;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INPUTS)
+	public long boxed()
+	{
+		long sum = 0;
+		for (final int price : prices)
+		{
+			sum += Result.<Integer, String> withValue(price)
+					.ensure(value -> value > 0, INVALID)
+					.map(value -> value * 119 / 100)
+					.map(value -> value + 500)
+					.getValue();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INPUTS)
+	public long primitive()
+	{
+		long sum = 0;
+		for (final int price : prices)
+		{
+			sum += IntResult.<String> withValue(price)
+					.ensure(value -> value > 0, INVALID)
+					.map(value -> value * 119 / 100)
+					.map(value -> value + 500)
+					.getValue();
+		}
+		return sum;
+	}
+}
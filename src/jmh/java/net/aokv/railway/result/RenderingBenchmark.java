@@ -0,0 +1,46 @@
+package net.aokv.railway.result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import net.aokv.railway.message.Message;
+import net.aokv.railway.message.MessageLevel;
+
+/**
+ * Renders a failed Result with a Message, as a new string and into a reused buffer, like a logger
+ * does for every failure.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RenderingBenchmark
+{
+	private final Result<String, Message> failure = Result.withError(Message.create()
+			.withCode(4711)
+			.withLevel(MessageLevel.ERROR)
+			.withIndex(3)
+			.withSource("changePassword")
+			.withText("Invalid password")
+			.withDetails("Password does not match")
+			.build());
+	private final StringBuilder buffer = new StringBuilder(256);
+
+	@Benchmark
+	public String toText()
+	{
+		return failure.toString();
+	}
+
+	@Benchmark
+	public int appendTo()
+	{
+		buffer.setLength(0);
+		return failure.appendTo(buffer).length();
+	}
+}
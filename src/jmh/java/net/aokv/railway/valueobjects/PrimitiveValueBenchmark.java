@@ -0,0 +1,116 @@
+package net.aokv.railway.valueobjects;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Creates and compares amounts in cents, once as a ValueObject with a boxed Long and once as a
+ * generated PrimitiveValue with a validating factory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PrimitiveValueBenchmark
+{
+	private static final int AMOUNTS = 1000;
+
+	@SuppressWarnings("serial")
+	private static final class BoxedAmount extends ValueObject<Long>
+	{
+		private BoxedAmount(final Long cents)
+		{
+			super(cents);
+		}
+	}
+
+	@PrimitiveValue(name = "BenchmarkAmount")
+	public interface AmountDefinition
+	{
+		long cents();
+
+		static boolean isValid(final long cents)
+		{
+			return cents >= 0;
+		}
+	}
+
+	private final long[] cents = new long[AMOUNTS];
+	private final BoxedAmount[] boxed = new BoxedAmount[AMOUNTS];
+	private final BoxedAmount[] otherBoxed = new BoxedAmount[AMOUNTS];
+	private final BenchmarkAmount[] primitive = new BenchmarkAmount[AMOUNTS];
+	private final BenchmarkAmount[] otherPrimitive = new BenchmarkAmount[AMOUNTS];
+
+	@Setup
+	public void createAmounts()
+	{
+		final Random random = new Random(42);
+		for (int i = 0; i < AMOUNTS; i++)
+		{
+			cents[i] = random.nextInt(1_000_000);
+			boxed[i] = new BoxedAmount(cents[i]);
+			otherBoxed[i] = new BoxedAmount(cents[i]);
+			primitive[i] = BenchmarkAmount.of(cents[i]).getValue();
+			otherPrimitive[i] = BenchmarkAmount.of(cents[i]).getValue();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(AMOUNTS)
+	public void createBoxed(final Blackhole blackhole)
+	{
+		for (final long value : cents)
+		{
+			blackhole.consume(new BoxedAmount(value));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(AMOUNTS)
+	public void createPrimitive(final Blackhole blackhole)
+	{
+		for (final long value : cents)
+		{
+			blackhole.consume(BenchmarkAmount.of(value).getValue());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(AMOUNTS)
+	public int equalsBoxed()
+	{
+		int equal = 0;
+		for (int i = 0; i < AMOUNTS; i++)
+		{
+			if (boxed[i].equals(otherBoxed[i]))
+			{
+				equal++;
+			}
+		}
+		return equal;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(AMOUNTS)
+	public int equalsPrimitive()
+	{
+		int equal = 0;
+		for (int i = 0; i < AMOUNTS; i++)
+		{
+			if (primitive[i].equals(otherPrimitive[i]))
+			{
+				equal++;
+			}
+		}
+		return equal;
+	}
+}
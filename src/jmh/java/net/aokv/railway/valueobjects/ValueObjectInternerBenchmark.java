@@ -0,0 +1,125 @@
+package net.aokv.railway.valueobjects;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates one ValueObject, with and without interning, from a freshly parsed string. Also loads a
+ * million records with a country code (250 distinct values) and a user name (50,000 distinct
+ * values) and reports the heap they retain, with and without interning.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ValueObjectInternerBenchmark
+{
+	private static final int RECORDS = 1_000_000;
+	private static final int COUNTRIES = 250;
+	private static final int USERS = 50_000;
+
+	@SuppressWarnings("serial")
+	private static final class CountryCode extends ValueObject<String>
+	{
+		private CountryCode(final String value)
+		{
+			super(value);
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static final class UserName extends ValueObject<String>
+	{
+		private UserName(final String value)
+		{
+			super(value);
+		}
+	}
+
+	private static final class Record
+	{
+		private final CountryCode country;
+		private final UserName user;
+
+		private Record(final CountryCode country, final UserName user)
+		{
+			this.country = country;
+			this.user = user;
+		}
+	}
+
+	/**
+	 * The heap retained by the loaded records.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint
+	{
+		public long retainedBytes;
+	}
+
+	private final ValueObjectInterner<CountryCode> countries = ValueObjectInterner.create();
+	private final ValueObjectInterner<UserName> users = ValueObjectInterner.create();
+	private final char[] input = "DE".toCharArray();
+	private Record[] records;
+
+	@Param({ "false", "true" })
+	private boolean interned;
+
+	@Setup(Level.Iteration)
+	public void clear()
+	{
+		records = null;
+	}
+
+	@Benchmark
+	public CountryCode create()
+	{
+		final CountryCode code = new CountryCode(new String(input));
+		return interned ? countries.intern(code) : code;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public Record[] load(final Footprint footprint)
+	{
+		final long before = usedHeap();
+		records = new Record[RECORDS];
+		for (int i = 0; i < RECORDS; i++)
+		{
+			final CountryCode country = new CountryCode(String.format("C%03d", i % COUNTRIES));
+			final UserName user = new UserName(String.format("user-%06d", (i * 7919) % USERS));
+			records[i] = interned
+					? new Record(countries.intern(country), users.intern(user))
+					: new Record(country, user);
+		}
+		footprint.retainedBytes = usedHeap() - before;
+		return records;
+	}
+
+	private static long usedHeap()
+	{
+		final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		for (int i = 0; i < 3; i++)
+		{
+			System.gc();
+		}
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,359 @@
+package net.aokv.railway.message;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A MessageSink that passes Messages on to another MessageSink on a background thread, so the
+ * threads that report Messages never wait for it. The Messages are kept in a bounded ring buffer
+ * whose slots are claimed with a compare-and-set instead of a lock. If the buffer is full, a
+ * Message is dropped or the reporting thread waits for a free slot, depending on the
+ * OverflowPolicy. Messages of levels that are not accepted are ignored before they reach the
+ * buffer. Exceptions and linkage errors of the other MessageSink are counted and do not stop the
+ * background thread. Other errors, like a VirtualMachineError, end it. Should the thread die, full
+ * buffers drop Messages instead of blocking.
+ * Is created by an <code>AsyncMessageSinkBuilder</code>.
+ */
+public final class AsyncMessageSink implements MessageSink, AutoCloseable
+{
+	private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long BLOCK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private final MessageSink target;
+	private final boolean[] levels;
+	private final OverflowPolicy overflowPolicy;
+	private final int mask;
+	private final Message[] buffer;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final Thread consumer;
+	private long head;
+	private volatile boolean idle;
+	private volatile boolean closed;
+
+	/**
+	 * What happens to a Message when the buffer is full.
+	 */
+	public enum OverflowPolicy
+	{
+		/**
+		 * The Message is dropped and counted.
+		 */
+		DROP,
+
+		/**
+		 * The reporting thread waits until there is a free slot.
+		 */
+		BLOCK
+	}
+
+	/**
+	 * A builder (pattern) for an AsyncMessageSink.
+	 */
+	public static class AsyncMessageSinkBuilder
+	{
+		private final MessageSink target;
+		private final boolean[] levels = new boolean[MessageLevel.values().length];
+		private int capacity = 1024;
+		private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+		private String threadName = "AsyncMessageSink";
+
+		private AsyncMessageSinkBuilder(final MessageSink target)
+		{
+			this.target = target;
+			withLevels(MessageLevel.values());
+		}
+
+		/**
+		 * Sets the number of Messages the buffer can hold. It is rounded up to a power of two of at
+		 * least 2. Default is 1024.
+		 *
+		 * @param capacity The capacity of the buffer.
+		 * @return The builder.
+		 * @throws IllegalArgumentException If capacity is not positive or larger than 2^30.
+		 */
+		public AsyncMessageSinkBuilder withCapacity(final int capacity)
+		{
+			if (capacity < 1 || capacity > MAX_CAPACITY)
+			{
+				throw new IllegalArgumentException(String.format("Invalid capacity %s.", capacity));
+			}
+			this.capacity = capacity;
+			return this;
+		}
+
+		/**
+		 * Sets the MessageLevels that are passed on. Messages without a level are always passed
+		 * on. Default is all levels.
+		 *
+		 * @param levels The MessageLevels.
+		 * @return The builder.
+		 * @throws IllegalArgumentException If levels is null.
+		 */
+		public AsyncMessageSinkBuilder withLevels(final MessageLevel... levels)
+		{
+			if (levels == null)
+			{
+				throw new IllegalArgumentException("MessageLevels may not be null.");
+			}
+			Arrays.fill(this.levels, false);
+			for (final MessageLevel level : levels)
+			{
+				this.levels[level.ordinal()] = true;
+			}
+			return this;
+		}
+
+		/**
+		 * Sets what happens to a Message when the buffer is full. Default is
+		 * <code>OverflowPolicy.DROP</code>.
+		 *
+		 * @param overflowPolicy The OverflowPolicy.
+		 * @return The builder.
+		 * @throws IllegalArgumentException If overflowPolicy is null.
+		 */
+		public AsyncMessageSinkBuilder withOverflowPolicy(final OverflowPolicy overflowPolicy)
+		{
+			if (overflowPolicy == null)
+			{
+				throw new IllegalArgumentException("OverflowPolicy may not be null.");
+			}
+			this.overflowPolicy = overflowPolicy;
+			return this;
+		}
+
+		/**
+		 * Sets the name of the background thread. Default is "AsyncMessageSink".
+		 *
+		 * @param threadName The name of the background thread.
+		 * @return The builder.
+		 */
+		public AsyncMessageSinkBuilder withThreadName(final String threadName)
+		{
+			this.threadName = threadName;
+			return this;
+		}
+
+		/**
+		 * Creates the final AsyncMessageSink and starts its background thread.
+		 *
+		 * @return The final AsyncMessageSink.
+		 */
+		public AsyncMessageSink build()
+		{
+			final AsyncMessageSink sink = new AsyncMessageSink(this);
+			sink.consumer.start();
+			return sink;
+		}
+	}
+
+	/**
+	 * Creates a new AsyncMessageSinkBuilder.
+	 *
+	 * @param target The MessageSink the Messages are passed on to.
+	 * @return The new AsyncMessageSinkBuilder.
+	 * @throws IllegalArgumentException If target is null.
+	 */
+	public static AsyncMessageSinkBuilder create(final MessageSink target)
+	{
+		if (target == null)
+		{
+			throw new IllegalArgumentException("MessageSink may not be null.");
+		}
+		return new AsyncMessageSinkBuilder(target);
+	}
+
+	private AsyncMessageSink(final AsyncMessageSinkBuilder builder)
+	{
+		target = builder.target;
+		levels = builder.levels.clone();
+		overflowPolicy = builder.overflowPolicy;
+		// With a single slot, a published and a free slot would have the same sequence number.
+		final int capacity = Math.max(2, Integer.highestOneBit(builder.capacity - 1) << 1);
+		mask = capacity - 1;
+		buffer = new Message[capacity];
+		sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++)
+		{
+			sequences.set(i, i);
+		}
+		consumer = new Thread(this::consume, builder.threadName);
+		consumer.setDaemon(true);
+	}
+
+	/**
+	 * Puts the given Message into the buffer, unless its level is not accepted. If the buffer is
+	 * full, the Message is dropped or the call waits for a free slot, depending on the
+	 * OverflowPolicy. After the sink has been closed or its background thread has died, Messages
+	 * that do not fit into the buffer are dropped.
+	 *
+	 * @param message The Message.
+	 * @throws IllegalArgumentException If message is null.
+	 */
+	@Override
+	public void accept(final Message message)
+	{
+		if (message == null)
+		{
+			throw new IllegalArgumentException("Message may not be null.");
+		}
+		if (message.getLevel() != null && !levels[message.getLevel().ordinal()])
+		{
+			return;
+		}
+		while (!offer(message))
+		{
+			if (overflowPolicy == OverflowPolicy.DROP || closed || !consumer.isAlive())
+			{
+				dropped.increment();
+				return;
+			}
+			LockSupport.unpark(consumer);
+			LockSupport.parkNanos(this, BLOCK_NANOS);
+		}
+		if (idle)
+		{
+			LockSupport.unpark(consumer);
+		}
+	}
+
+	/**
+	 * Returns the number of Messages that have been dropped, because the buffer was full or the
+	 * sink was closed.
+	 *
+	 * @return The number of dropped Messages.
+	 */
+	public long getDropped()
+	{
+		return dropped.sum();
+	}
+
+	/**
+	 * Returns the number of Messages the other MessageSink threw an exception or linkage error for.
+	 *
+	 * @return The number of failed Messages.
+	 */
+	public long getFailed()
+	{
+		return failed.sum();
+	}
+
+	/**
+	 * Stops accepting Messages and waits until the background thread has passed on the Messages
+	 * in the buffer. Messages that are reported while the sink is closed may be lost. If the
+	 * waiting thread is interrupted, it returns early with its interrupt flag set. If the other
+	 * MessageSink closes the sink, the call returns without waiting for itself.
+	 */
+	@Override
+	public void close()
+	{
+		closed = true;
+		LockSupport.unpark(consumer);
+		if (Thread.currentThread() == consumer)
+		{
+			return;
+		}
+		try
+		{
+			consumer.join();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private boolean offer(final Message message)
+	{
+		if (closed)
+		{
+			return false;
+		}
+		long position = tail.get();
+		while (true)
+		{
+			final int slot = (int) position & mask;
+			final long difference = sequences.get(slot) - position;
+			if (difference == 0)
+			{
+				if (tail.compareAndSet(position, position + 1))
+				{
+					buffer[slot] = message;
+					sequences.lazySet(slot, position + 1);
+					return true;
+				}
+				position = tail.get();
+			}
+			else if (difference < 0)
+			{
+				return false;
+			}
+			else
+			{
+				position = tail.get();
+			}
+		}
+	}
+
+	private boolean hasNext()
+	{
+		return sequences.get((int) head & mask) == head + 1;
+	}
+
+	private Message poll()
+	{
+		final int slot = (int) head & mask;
+		if (sequences.get(slot) != head + 1)
+		{
+			return null;
+		}
+		final Message message = buffer[slot];
+		buffer[slot] = null;
+		sequences.lazySet(slot, head + mask + 1);
+		head++;
+		return message;
+	}
+
+	private void consume()
+	{
+		while (true)
+		{
+			final boolean closing = closed;
+			Message message;
+			while ((message = poll()) != null)
+			{
+				deliver(message);
+			}
+			if (closing)
+			{
+				return;
+			}
+			// A producer may miss that the thread is going idle, so it never sleeps for long.
+			idle = true;
+			if (!hasNext())
+			{
+				LockSupport.parkNanos(this, IDLE_NANOS);
+			}
+			idle = false;
+		}
+	}
+
+	private void deliver(final Message message)
+	{
+		try
+		{
+			target.accept(message);
+		}
+		catch (final Exception | LinkageError e)
+		{
+			failed.increment();
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package net.aokv.railway.message;
+
+/**
+ * Finds the name of the method that created a Message, i.e. the first method on the call stack
+ * outside of Message and its builder. On Java 8, the whole call stack is captured. The
+ * multi-release jar contains a variant for Java 17 that only walks the frames it needs.
+ */
+final class CallerSource
+{
+	static final String NO_SOURCE = "No source";
+
+	private CallerSource()
+	{
+	}
+
+	static String find()
+	{
+		for (final StackTraceElement element : new Throwable().getStackTrace())
+		{
+			if (!isInternal(element.getClassName()))
+			{
+				return element.getMethodName();
+			}
+		}
+		return NO_SOURCE;
+	}
+
+	private static boolean isInternal(final String className)
+	{
+		return className.equals(CallerSource.class.getName())
+				|| className.equals(Message.class.getName())
+				|| className.equals(Message.MessageBuilder.class.getName());
+	}
+}
@@ -0,0 +1,62 @@
+package net.aokv.railway.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Converts exceptions into error Messages, e.g. for <code>Result.attempt</code>. For expected
+ * exception types, the details only contain the exception's type and message, so its stack trace
+ * is never materialized. All other exceptions get their full stack trace as details.
+ */
+public final class ExceptionMessages
+{
+	private ExceptionMessages()
+	{
+	}
+
+	/**
+	 * Creates a mapper that converts exceptions into error Messages with the exception's message
+	 * as text.
+	 *
+	 * @param expectedTypes The exception types that are expected, e.g. <code>SQLException</code>.
+	 *            Exceptions of these types and their subtypes are converted without their stack
+	 *            traces.
+	 * @return The mapper.
+	 */
+	@SafeVarargs
+	public static Function<Exception, Message> toMessage(final Class<? extends Exception>... expectedTypes)
+	{
+		final List<Class<? extends Exception>> expected = new ArrayList<>(expectedTypes.length);
+		for (final Class<? extends Exception> type : expectedTypes)
+		{
+			expected.add(type);
+		}
+		return exception -> toMessage(exception, isExpected(expected, exception));
+	}
+
+	private static boolean isExpected(final List<Class<? extends Exception>> expected, final Exception exception)
+	{
+		for (final Class<? extends Exception> type : expected)
+		{
+			if (type.isInstance(exception))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Message toMessage(final Exception exception, final boolean expected)
+	{
+		final Message.MessageBuilder builder = Message.createError()
+				.withText(exception.getMessage() != null
+						? exception.getMessage()
+						: exception.getClass().getSimpleName());
+		if (expected)
+		{
+			return builder.withDetails(exception.toString()).build();
+		}
+		return builder.withDetails(exception).build();
+	}
+}
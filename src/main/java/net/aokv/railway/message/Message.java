@@ -1,46 +1,90 @@
 package net.aokv.railway.message;
 
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.io.StringWriter;
+import java.util.Objects;
 
-import com.google.common.base.Objects;
+import net.aokv.railway.text.Renderable;
 
 /**
- * A Message. Immutable. Is created by a <code>MessageBuilder</code>.
+ * A Message. Immutable and thread-safe. Is created by a <code>MessageBuilder</code>. If no source
+ * is given, the name of the method that builds the Message is used. Capturing it can be disabled
+ * with the system property <code>net.aokv.railway.message.captureSource=false</code>.
  */
-public final class Message implements Serializable
+public final class Message implements Serializable, Renderable
 {
 	private static final long serialVersionUID = 8128659250371079506L;
-	private static final int POSITION_OF_CALLER_IN_CALL_STACK = 7;
+	private static final boolean CAPTURE_SOURCE =
+			Boolean.parseBoolean(System.getProperty("net.aokv.railway.message.captureSource", "true"));
 
-	private MessageLevel level;
-	private int code;
-	private String source;
-	private int index;
-	private String text;
-	private String details;
+	private final MessageLevel level;
+	private final int code;
+	private final String source;
+	private final int index;
+	private final String text;
+	private final String details;
+	private final transient ThrowableDetails throwableDetails;
+	private transient String renderedDetails;
+	private transient int hash;
 
 	/**
-	 * A builder (pattern) for a Message.
+	 * A builder (pattern) for a Message. Every call of <code>build()</code> creates a new Message
+	 * and leaves the builder unchanged, so a builder can be used as a template for many Messages.
+	 * Once it is set up and safely published, e.g. in a <code>static final</code> field, any number
+	 * of threads may call <code>build()</code> on it. Changing it is not thread-safe; use
+	 * <code>copy()</code> to derive a new builder from a shared one.
 	 */
 	public static class MessageBuilder
 	{
-		private final Message message;
+		// Not private, so Message reads them without accessor methods, which can keep build() from
+		// being inlined and the builder from being eliminated.
+		MessageLevel level = MessageLevel.ERROR;
+		int code = 1;
+		String source;
+		int index;
+		String text = "No text";
+		String details = "No details";
+		ThrowableDetails throwableDetails;
 
 		private MessageBuilder()
 		{
-			message = new Message();
+		}
+
+		private MessageBuilder(final MessageBuilder template)
+		{
+			level = template.level;
+			code = template.code;
+			source = template.source;
+			index = template.index;
+			text = template.text;
+			details = template.details;
+			throwableDetails = template.throwableDetails;
 		}
 
 		/**
-		 * Creates the final Message.
+		 * Creates a new Message with the builder's current values. If no source has been set, the
+		 * calling method is used.
 		 *
-		 * @return The final Message.
+		 * @return The new Message.
 		 */
 		public Message build()
 		{
-			return message;
+			if (source == null)
+			{
+				return new Message(this, CAPTURE_SOURCE ? CallerSource.find() : CallerSource.NO_SOURCE);
+			}
+			return new Message(this, source);
+		}
+
+		/**
+		 * Creates a new MessageBuilder with the same values as this one.
+		 *
+		 * @return The new MessageBuilder.
+		 */
+		public MessageBuilder copy()
+		{
+			return new MessageBuilder(this);
 		}
 
 		/**
@@ -51,7 +95,7 @@ public final class Message implements Serializable
 		 */
 		public MessageBuilder withCode(final int code)
 		{
-			message.code = code;
+			this.code = code;
 			return this;
 		}
 
@@ -63,7 +107,7 @@ public final class Message implements Serializable
 		 */
 		public MessageBuilder withLevel(final MessageLevel level)
 		{
-			message.level = level;
+			this.level = level;
 			return this;
 		}
 
@@ -75,7 +119,7 @@ public final class Message implements Serializable
 		 */
 		public MessageBuilder withIndex(final int index)
 		{
-			message.index = index;
+			this.index = index;
 			return this;
 		}
 
@@ -87,7 +131,7 @@ public final class Message implements Serializable
 		 */
 		public MessageBuilder withText(final String text)
 		{
-			message.text = text;
+			this.text = text;
 			return this;
 		}
 
@@ -99,7 +143,7 @@ public final class Message implements Serializable
 		 */
 		public MessageBuilder withSource(final String source)
 		{
-			message.source = source;
+			this.source = source;
 			return this;
 		}
 
@@ -111,22 +155,38 @@ public final class Message implements Serializable
 		 */
 		public MessageBuilder withDetails(final String details)
 		{
-			message.details = details;
+			this.details = details;
+			throwableDetails = null;
 			return this;
 		}
 
 		/**
-		 * Sets the new Message's details from an error.
+		 * Sets the new Message's details from an error. Only the error is kept; its stack trace is
+		 * read and rendered when the details are requested, with the default limits for frames and
+		 * causes.
 		 *
 		 * @param throwable The error for the Message's details.
 		 * @return The builder.
 		 */
 		public MessageBuilder withDetails(final Throwable throwable)
 		{
-			final StringWriter stringWriter = new StringWriter();
-			final PrintWriter printWriter = new PrintWriter(stringWriter);
-			throwable.printStackTrace(printWriter);
-			message.details = stringWriter.toString();
+			return withDetails(throwable,
+					ThrowableDetails.DEFAULT_MAX_FRAMES, ThrowableDetails.DEFAULT_MAX_CAUSES);
+		}
+
+		/**
+		 * Sets the new Message's details from an error. Only the error is kept; its stack trace is
+		 * read and rendered when the details are requested.
+		 *
+		 * @param throwable The error for the Message's details.
+		 * @param maxFrames The maximum number of frames rendered per error.
+		 * @param maxCauses The maximum levels of causes and suppressed errors rendered.
+		 * @return The builder.
+		 */
+		public MessageBuilder withDetails(final Throwable throwable, final int maxFrames, final int maxCauses)
+		{
+			throwableDetails = new ThrowableDetails(throwable, maxFrames, maxCauses);
+			details = null;
 			return this;
 		}
 	}
@@ -166,24 +226,34 @@ public final class Message implements Serializable
 				.build();
 	}
 
-	private Message()
+	private Message(final MessageBuilder builder, final String source)
 	{
-		level = MessageLevel.ERROR;
-		code = 1;
-		source = getSourceFromCallStack();
-		index = 0;
-		text = "No text";
-		details = "No details";
+		level = builder.level;
+		code = builder.code;
+		this.source = source;
+		index = builder.index;
+		text = builder.text;
+		details = builder.details;
+		throwableDetails = builder.throwableDetails;
 	}
 
-	private String getSourceFromCallStack()
+	/**
+	 * Creates a new MessageBuilder with the Message's values, e.g. to create a similar Message
+	 * with another text. Details given as an error are not rendered.
+	 *
+	 * @return The new MessageBuilder.
+	 */
+	public MessageBuilder toBuilder()
 	{
-		final StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-		if (stack.length >= POSITION_OF_CALLER_IN_CALL_STACK + 1)
-		{
-			return stack[POSITION_OF_CALLER_IN_CALL_STACK].getMethodName();
-		}
-		return "No source";
+		final MessageBuilder builder = new MessageBuilder();
+		builder.level = level;
+		builder.code = code;
+		builder.source = source;
+		builder.index = index;
+		builder.text = text;
+		builder.details = details;
+		builder.throwableDetails = throwableDetails;
+		return builder;
 	}
 
 	/**
@@ -237,13 +307,23 @@ public final class Message implements Serializable
 	}
 
 	/**
-	 * Returns the Message's details.
+	 * Returns the Message's details. Details given as an error are rendered on the first call.
 	 *
 	 * @return The Message's details.
 	 */
 	public String getDetails()
 	{
-		return details;
+		if (throwableDetails == null)
+		{
+			return details;
+		}
+		String rendered = renderedDetails;
+		if (rendered == null)
+		{
+			rendered = throwableDetails.render();
+			renderedDetails = rendered;
+		}
+		return rendered;
 	}
 
 	/**
@@ -257,15 +337,27 @@ public final class Message implements Serializable
 		return getCode() == code;
 	}
 
+	/**
+	 * Returns the same hash code as <code>Objects.hashCode(code, level, index, source, text,
+	 * details)</code> of Guava, without boxing. It is calculated on the first call and then cached.
+	 *
+	 * @return The Message's hash code.
+	 */
 	@Override
 	public int hashCode()
 	{
-		return Objects.hashCode(getCode(),
-				getLevel(),
-				getIndex(),
-				getSource(),
-				getText(),
-				getDetails());
+		int result = hash;
+		if (result == 0)
+		{
+			result = 31 + code;
+			result = 31 * result + Objects.hashCode(level);
+			result = 31 * result + index;
+			result = 31 * result + Objects.hashCode(source);
+			result = 31 * result + Objects.hashCode(text);
+			result = 31 * result + Objects.hashCode(getDetails());
+			hash = result;
+		}
+		return result;
 	}
 
 	@Override
@@ -284,12 +376,13 @@ public final class Message implements Serializable
 			return false;
 		}
 		final Message other = (Message) obj;
-		return Objects.equal(getCode(), other.getCode())
-				&& Objects.equal(getLevel(), other.getLevel())
-				&& Objects.equal(getIndex(), other.getIndex())
-				&& Objects.equal(getSource(), other.getSource())
-				&& Objects.equal(getText(), other.getText())
-				&& Objects.equal(getDetails(), other.getDetails());
+		return code == other.code
+				&& index == other.index
+				&& level == other.level
+				&& (hash == 0 || other.hash == 0 || hash == other.hash)
+				&& Objects.equals(source, other.source)
+				&& Objects.equals(text, other.text)
+				&& Objects.equals(getDetails(), other.getDetails());
 	}
 
 	/**
@@ -304,7 +397,36 @@ public final class Message implements Serializable
 	@Override
 	public String toString()
 	{
-		return String.format("%s (%s, %s, %s): \"%s\" (details: \"%s\")",
-				getLevel(), getCode(), getSource(), getIndex(), getText(), getDetails());
+		return appendTo(new StringBuilder()).toString();
+	}
+
+	/**
+	 * Writes the Message to the given Appendable in the same format as {@link #toString()}.
+	 *
+	 * @param appendable The Appendable to write to.
+	 * @throws IOException If the Appendable cannot be written to.
+	 */
+	@Override
+	public void render(final Appendable appendable) throws IOException
+	{
+		appendable.append(String.valueOf(getLevel())).append(" (");
+		Renderable.append(appendable, getCode());
+		appendable.append(", ").append(getSource()).append(", ");
+		Renderable.append(appendable, getIndex());
+		appendable.append("): \"").append(getText())
+				.append("\" (details: \"").append(getDetails())
+				.append("\")");
+	}
+
+	private void writeObject(final ObjectOutputStream stream) throws IOException
+	{
+		final ObjectOutputStream.PutField fields = stream.putFields();
+		fields.put("level", level);
+		fields.put("code", code);
+		fields.put("source", source);
+		fields.put("index", index);
+		fields.put("text", text);
+		fields.put("details", getDetails());
+		stream.writeFields();
 	}
 }
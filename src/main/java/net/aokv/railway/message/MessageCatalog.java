@@ -0,0 +1,215 @@
+package net.aokv.railway.message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.aokv.railway.result.Result;
+
+/**
+ * A fixed set of Messages, identified by their codes. Immutable. Is created by a
+ * <code>MessageCatalogBuilder</code>, usually at startup. The Messages are shared, so errors
+ * without parameters do not have to be built again for every failure. If the codes are dense, a
+ * Message is looked up by its offset in an array. Otherwise, the codes are hashed into an open
+ * addressing table. Either way, codes are never boxed.
+ */
+public final class MessageCatalog
+{
+	private static final String SOURCE = "MessageCatalog";
+	private static final int MAX_GAPS_PER_MESSAGE = 4;
+
+	private final int size;
+	private final int offset;
+	private final int mask;
+	private final int[] codes;
+	private final Message[] messages;
+
+	/**
+	 * A builder (pattern) for a MessageCatalog.
+	 */
+	public static class MessageCatalogBuilder
+	{
+		private final List<Message> messages = new ArrayList<>();
+
+		private MessageCatalogBuilder()
+		{
+		}
+
+		/**
+		 * Adds a Message with the given code, level and text.
+		 *
+		 * @param code The Message's code.
+		 * @param level The Message's level.
+		 * @param text The Message's text.
+		 * @return The builder.
+		 */
+		public MessageCatalogBuilder withMessage(final int code, final MessageLevel level, final String text)
+		{
+			return withMessage(Message.create()
+					.withCode(code)
+					.withLevel(level)
+					.withSource(SOURCE)
+					.withText(text)
+					.build());
+		}
+
+		/**
+		 * Adds the given Message.
+		 *
+		 * @param message The Message.
+		 * @return The builder.
+		 * @throws IllegalArgumentException If the Message is null or its code is already used.
+		 */
+		public MessageCatalogBuilder withMessage(final Message message)
+		{
+			if (message == null)
+			{
+				throw new IllegalArgumentException("Message may not be null.");
+			}
+			for (final Message other : messages)
+			{
+				if (other.hasCode(message.getCode()))
+				{
+					throw new IllegalArgumentException(
+							String.format("Code %s is already used by %s.", message.getCode(), other));
+				}
+			}
+			messages.add(message);
+			return this;
+		}
+
+		/**
+		 * Creates the final MessageCatalog.
+		 *
+		 * @return The final MessageCatalog.
+		 */
+		public MessageCatalog build()
+		{
+			return new MessageCatalog(messages);
+		}
+	}
+
+	/**
+	 * Creates a new MessageCatalogBuilder.
+	 *
+	 * @return The new MessageCatalogBuilder.
+	 */
+	public static MessageCatalogBuilder create()
+	{
+		return new MessageCatalogBuilder();
+	}
+
+	private MessageCatalog(final List<Message> registered)
+	{
+		size = registered.size();
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (final Message message : registered)
+		{
+			min = Math.min(min, message.getCode());
+			max = Math.max(max, message.getCode());
+		}
+		final long range = size == 0 ? 0 : (long) max - min + 1;
+		if (range <= (long) size * MAX_GAPS_PER_MESSAGE)
+		{
+			offset = min;
+			mask = 0;
+			codes = null;
+			messages = new Message[(int) range];
+			for (final Message message : registered)
+			{
+				messages[message.getCode() - offset] = message;
+			}
+		}
+		else
+		{
+			offset = 0;
+			final int capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+			mask = capacity - 1;
+			codes = new int[capacity];
+			messages = new Message[capacity];
+			for (final Message message : registered)
+			{
+				int slot = slot(message.getCode());
+				while (messages[slot] != null)
+				{
+					slot = (slot + 1) & mask;
+				}
+				codes[slot] = message.getCode();
+				messages[slot] = message;
+			}
+		}
+	}
+
+	private int slot(final int code)
+	{
+		final int hash = code * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	/**
+	 * Checks whether the catalog contains a Message with the given code.
+	 *
+	 * @param code The code to look for.
+	 * @return Whether the catalog contains a Message with the code.
+	 */
+	public boolean contains(final int code)
+	{
+		return find(code) != null;
+	}
+
+	/**
+	 * Returns the Message with the given code.
+	 *
+	 * @param code The Message's code.
+	 * @return The shared Message.
+	 * @throws IllegalArgumentException If the catalog does not contain a Message with the code.
+	 */
+	public Message get(final int code)
+	{
+		final Message message = find(code);
+		if (message == null)
+		{
+			throw new IllegalArgumentException(String.format("No Message with code %s.", code));
+		}
+		return message;
+	}
+
+	/**
+	 * Creates a failed Result with the Message with the given code.
+	 *
+	 * @param code The Message's code.
+	 * @return Failed Result with the shared Message.
+	 * @throws IllegalArgumentException If the catalog does not contain a Message with the code.
+	 */
+	public <TSuccess> Result<TSuccess, Message> failure(final int code)
+	{
+		return Result.withError(get(code));
+	}
+
+	/**
+	 * Returns the number of Messages in the catalog.
+	 *
+	 * @return The number of Messages.
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	private Message find(final int code)
+	{
+		if (codes == null)
+		{
+			final int index = code - offset;
+			return index >= 0 && index < messages.length ? messages[index] : null;
+		}
+		for (int slot = slot(code); messages[slot] != null; slot = (slot + 1) & mask)
+		{
+			if (codes[slot] == code)
+			{
+				return messages[slot];
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,396 @@
+package net.aokv.railway.message;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compact binary format for Messages, written to and read from ByteBuffers. Each Message starts
+ * with the format's version, followed by its level, code and index as variable-length integers
+ * and its source, text and details as length-prefixed UTF-8 strings. Unpaired surrogates are
+ * written like other characters, so every string is read back unchanged. Short strings are kept
+ * in a dictionary and written only once per Encoder, later occurrences refer to them by number.
+ * Therefore, a Decoder has to read the Messages of an Encoder in the order they were written.
+ */
+public final class MessageCodec
+{
+	/**
+	 * Version of the format.
+	 */
+	public static final int VERSION = 1;
+
+	private static final int MAX_DICTIONARY_SIZE = 4096;
+	private static final int MAX_DICTIONARY_STRING_LENGTH = 256;
+	private static final int NULL = 0;
+	private static final int LITERAL = 1;
+	private static final int NEW_ENTRY = 2;
+	private static final int FIRST_REFERENCE = 3;
+	private static final MessageLevel[] LEVELS = MessageLevel.values();
+
+	private MessageCodec()
+	{
+	}
+
+	/**
+	 * Creates a new Encoder with an empty dictionary.
+	 *
+	 * @return The new Encoder.
+	 */
+	public static Encoder newEncoder()
+	{
+		return new Encoder();
+	}
+
+	/**
+	 * Creates a new Decoder with an empty dictionary.
+	 *
+	 * @return The new Decoder.
+	 */
+	public static Decoder newDecoder()
+	{
+		return new Decoder();
+	}
+
+	/**
+	 * Writes Messages into ByteBuffers. Not thread-safe.
+	 */
+	public static final class Encoder
+	{
+		private final Map<String, Integer> dictionary = new HashMap<>();
+		private String[] entries = new String[16];
+
+		private Encoder()
+		{
+		}
+
+		/**
+		 * Writes the given Message at the buffer's position. If the buffer is too small, neither
+		 * its position nor the dictionary change, so the Message can be written again into a
+		 * larger buffer.
+		 *
+		 * @param message The Message.
+		 * @param buffer The buffer to write to.
+		 * @return The buffer.
+		 * @throws BufferOverflowException If the buffer is too small.
+		 */
+		public ByteBuffer encode(final Message message, final ByteBuffer buffer)
+		{
+			if (message == null)
+			{
+				throw new IllegalArgumentException("Message may not be null.");
+			}
+			final int position = buffer.position();
+			final int dictionarySize = dictionary.size();
+			try
+			{
+				writeVarInt(buffer, VERSION);
+				writeVarInt(buffer, message.getLevel() == null ? 0 : message.getLevel().ordinal() + 1);
+				writeVarInt(buffer, zigZag(message.getCode()));
+				writeVarInt(buffer, zigZag(message.getIndex()));
+				writeString(buffer, message.getSource());
+				writeString(buffer, message.getText());
+				writeString(buffer, message.getDetails());
+				return buffer;
+			}
+			catch (final BufferOverflowException exception)
+			{
+				buffer.position(position);
+				while (dictionary.size() > dictionarySize)
+				{
+					dictionary.remove(entries[dictionary.size() - 1]);
+				}
+				throw exception;
+			}
+		}
+
+		private void writeString(final ByteBuffer buffer, final String string)
+		{
+			if (string == null)
+			{
+				writeVarInt(buffer, NULL);
+				return;
+			}
+			final Integer entry = dictionary.get(string);
+			if (entry != null)
+			{
+				writeVarInt(buffer, FIRST_REFERENCE + entry);
+				return;
+			}
+			if (string.length() <= MAX_DICTIONARY_STRING_LENGTH && dictionary.size() < MAX_DICTIONARY_SIZE)
+			{
+				writeVarInt(buffer, NEW_ENTRY);
+				writeUtf8(buffer, string);
+				if (dictionary.size() == entries.length)
+				{
+					entries = Arrays.copyOf(entries, entries.length * 2);
+				}
+				entries[dictionary.size()] = string;
+				dictionary.put(string, dictionary.size());
+				return;
+			}
+			writeVarInt(buffer, LITERAL);
+			writeUtf8(buffer, string);
+		}
+	}
+
+	/**
+	 * Reads Messages from ByteBuffers. Not thread-safe.
+	 */
+	public static final class Decoder
+	{
+		private String[] entries = new String[16];
+		private int size;
+
+		private Decoder()
+		{
+		}
+
+		/**
+		 * Reads a Message at the buffer's position. If the Message cannot be read, neither the
+		 * buffer's position nor the dictionary change, so a Message that is split across buffers
+		 * can be read again once the rest of it has arrived.
+		 *
+		 * @param buffer The buffer to read from.
+		 * @return The Message.
+		 * @throws IllegalArgumentException If the buffer does not contain a valid Message.
+		 * @throws BufferUnderflowException If the buffer ends within the Message.
+		 */
+		public Message decode(final ByteBuffer buffer)
+		{
+			final int position = buffer.position();
+			final int dictionarySize = size;
+			try
+			{
+				return read(buffer);
+			}
+			catch (final RuntimeException exception)
+			{
+				buffer.position(position);
+				Arrays.fill(entries, dictionarySize, size, null);
+				size = dictionarySize;
+				throw exception;
+			}
+		}
+
+		private Message read(final ByteBuffer buffer)
+		{
+			final int version = readVarInt(buffer);
+			if (version != VERSION)
+			{
+				throw new IllegalArgumentException(String.format("Unsupported version %s.", version));
+			}
+			final int level = readVarInt(buffer);
+			if (level < 0 || level > LEVELS.length)
+			{
+				throw new IllegalArgumentException(String.format("Invalid level %s.", level));
+			}
+			return Message.create()
+					.withLevel(level == 0 ? null : LEVELS[level - 1])
+					.withCode(unZigZag(readVarInt(buffer)))
+					.withIndex(unZigZag(readVarInt(buffer)))
+					.withSource(readString(buffer))
+					.withText(readString(buffer))
+					.withDetails(readString(buffer))
+					.build();
+		}
+
+		private String readString(final ByteBuffer buffer)
+		{
+			final int tag = readVarInt(buffer);
+			switch (tag)
+			{
+				case NULL:
+					return null;
+				case LITERAL:
+					return readUtf8(buffer);
+				case NEW_ENTRY:
+					final String string = readUtf8(buffer);
+					if (size == entries.length)
+					{
+						entries = Arrays.copyOf(entries, size * 2);
+					}
+					entries[size++] = string;
+					return string;
+				default:
+					final int entry = tag - FIRST_REFERENCE;
+					if (entry < 0 || entry >= size)
+					{
+						throw new IllegalArgumentException(String.format("Unknown string %s.", entry));
+					}
+					return entries[entry];
+			}
+		}
+	}
+
+	private static int zigZag(final int value)
+	{
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int unZigZag(final int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarInt(final ByteBuffer buffer, final int value)
+	{
+		int remaining = value;
+		while ((remaining & ~0x7F) != 0)
+		{
+			buffer.put((byte) ((remaining & 0x7F) | 0x80));
+			remaining >>>= 7;
+		}
+		buffer.put((byte) remaining);
+	}
+
+	private static int readVarInt(final ByteBuffer buffer)
+	{
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			final byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0)
+			{
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Invalid variable-length integer.");
+	}
+
+	private static void writeUtf8(final ByteBuffer buffer, final String string)
+	{
+		final int length = string.length();
+		int bytes = length;
+		for (int i = 0; i < length; i++)
+		{
+			final char c = string.charAt(i);
+			if (isSurrogatePair(string, i))
+			{
+				bytes += 2;
+				i++;
+			}
+			else if (c >= 0x800)
+			{
+				bytes += 2;
+			}
+			else if (c >= 0x80)
+			{
+				bytes++;
+			}
+		}
+		writeVarInt(buffer, bytes);
+		if (buffer.remaining() < bytes)
+		{
+			throw new BufferOverflowException();
+		}
+		for (int i = 0; i < length; i++)
+		{
+			final char c = string.charAt(i);
+			if (c < 0x80)
+			{
+				buffer.put((byte) c);
+			}
+			else if (c < 0x800)
+			{
+				buffer.put((byte) (0xC0 | (c >> 6)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+			else if (isSurrogatePair(string, i))
+			{
+				final int codePoint = Character.toCodePoint(c, string.charAt(++i));
+				buffer.put((byte) (0xF0 | (codePoint >> 18)));
+				buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+			}
+			else
+			{
+				buffer.put((byte) (0xE0 | (c >> 12)));
+				buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+
+	private static boolean isSurrogatePair(final String string, final int index)
+	{
+		return Character.isHighSurrogate(string.charAt(index))
+				&& index + 1 < string.length()
+				&& Character.isLowSurrogate(string.charAt(index + 1));
+	}
+
+	private static String readUtf8(final ByteBuffer buffer)
+	{
+		final int bytes = readVarInt(buffer);
+		if (bytes < 0)
+		{
+			throw new IllegalArgumentException(String.format("Invalid string length %s.", bytes));
+		}
+		if (bytes > buffer.remaining())
+		{
+			throw new BufferUnderflowException();
+		}
+		final char[] chars = new char[bytes];
+		int length = 0;
+		final int end = buffer.position() + bytes;
+		while (buffer.position() < end)
+		{
+			final int b = buffer.get() & 0xFF;
+			if (b < 0x80)
+			{
+				chars[length++] = (char) b;
+			}
+			else if (b >= 0xC2 && b < 0xE0)
+			{
+				chars[length++] = (char) (((b & 0x1F) << 6) | readContinuation(buffer, end));
+			}
+			else if (b >= 0xE0 && b < 0xF0)
+			{
+				final int c = ((b & 0x0F) << 12)
+						| (readContinuation(buffer, end) << 6)
+						| readContinuation(buffer, end);
+				if (c < 0x800)
+				{
+					throw new IllegalArgumentException(String.format("Invalid UTF-8 character %s.", c));
+				}
+				chars[length++] = (char) c;
+			}
+			else if (b >= 0xF0 && b < 0xF5)
+			{
+				final int codePoint = ((b & 0x07) << 18)
+						| (readContinuation(buffer, end) << 12)
+						| (readContinuation(buffer, end) << 6)
+						| readContinuation(buffer, end);
+				if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT)
+				{
+					throw new IllegalArgumentException(String.format("Invalid UTF-8 code point %s.", codePoint));
+				}
+				chars[length++] = Character.highSurrogate(codePoint);
+				chars[length++] = Character.lowSurrogate(codePoint);
+			}
+			else
+			{
+				throw new IllegalArgumentException(String.format("Invalid UTF-8 lead byte %s.", b));
+			}
+		}
+		return new String(chars, 0, length);
+	}
+
+	private static int readContinuation(final ByteBuffer buffer, final int end)
+	{
+		if (buffer.position() >= end)
+		{
+			throw new IllegalArgumentException("UTF-8 character exceeds the string length.");
+		}
+		final int b = buffer.get() & 0xFF;
+		if ((b & 0xC0) != 0x80)
+		{
+			throw new IllegalArgumentException(String.format("Invalid UTF-8 continuation byte %s.", b));
+		}
+		return b & 0x3F;
+	}
+}
@@ -0,0 +1,19 @@
+package net.aokv.railway.message;
+
+import java.util.function.Consumer;
+
+/**
+ * Receives Messages, e.g. to log them. As a Consumer, it can be given to
+ * <code>Result.onFailure</code> directly.
+ */
+@FunctionalInterface
+public interface MessageSink extends Consumer<Message>
+{
+	/**
+	 * Receives the given Message.
+	 *
+	 * @param message The Message.
+	 */
+	@Override
+	void accept(Message message);
+}
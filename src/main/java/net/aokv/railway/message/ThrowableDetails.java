@@ -0,0 +1,124 @@
+package net.aokv.railway.message;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The details of a Message that were given as an error. Only the error is kept; its stack traces,
+ * suppressed errors and causes are read and rendered when the details are requested, in the format
+ * of <code>Throwable.printStackTrace()</code>, but with at most <code>maxFrames</code> frames per
+ * error and <code>maxCauses</code> levels of causes and suppressed errors. Omitted causes and
+ * suppressed errors are counted in a "... n more" line. Since the error is read late, changes to it
+ * until then, e.g. with <code>addSuppressed</code> or <code>initCause</code>, show up in the
+ * details. The default limits can be set with the system properties
+ * <code>net.aokv.railway.message.maxFrames</code> and
+ * <code>net.aokv.railway.message.maxCauses</code>.
+ */
+final class ThrowableDetails
+{
+	static final int DEFAULT_MAX_FRAMES = Integer.getInteger("net.aokv.railway.message.maxFrames", 64);
+	static final int DEFAULT_MAX_CAUSES = Integer.getInteger("net.aokv.railway.message.maxCauses", 8);
+
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+	private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+	private final Throwable throwable;
+	private final int maxFrames;
+	private final int maxCauses;
+
+	ThrowableDetails(final Throwable throwable, final int maxFrames, final int maxCauses)
+	{
+		if (throwable == null)
+		{
+			throw new IllegalArgumentException("Throwable may not be null.");
+		}
+		if (maxFrames < 0 || maxCauses < 0)
+		{
+			throw new IllegalArgumentException("Limits may not be negative.");
+		}
+		this.throwable = throwable;
+		this.maxFrames = maxFrames;
+		this.maxCauses = maxCauses;
+	}
+
+	String render()
+	{
+		final StringBuilder builder = new StringBuilder();
+		append(builder, throwable, NO_FRAMES, "", "", 0, Collections.newSetFromMap(new IdentityHashMap<>()));
+		return builder.toString();
+	}
+
+	private void append(final StringBuilder builder, final Throwable current,
+			final StackTraceElement[] enclosingFrames, final String prefix, final String caption, final int depth,
+			final Set<Throwable> seen)
+	{
+		builder.append(prefix).append(caption);
+		if (!seen.add(current))
+		{
+			builder.append("[CIRCULAR REFERENCE: ").append(current).append(']').append(LINE_SEPARATOR);
+			return;
+		}
+		builder.append(current).append(LINE_SEPARATOR);
+		final StackTraceElement[] frames = current.getStackTrace();
+		appendFrames(builder, frames, enclosingFrames, prefix);
+		final Throwable[] suppressed = current.getSuppressed();
+		final Throwable cause = current.getCause();
+		if (depth >= maxCauses)
+		{
+			if (suppressed.length > 0)
+			{
+				builder.append(prefix).append("\t... ").append(suppressed.length).append(" more suppressed")
+						.append(LINE_SEPARATOR);
+			}
+			final int omittedCauses = countCauses(cause, seen);
+			if (omittedCauses > 0)
+			{
+				builder.append(prefix).append("... ").append(omittedCauses).append(" more causes")
+						.append(LINE_SEPARATOR);
+			}
+			return;
+		}
+		for (final Throwable suppressedError : suppressed)
+		{
+			append(builder, suppressedError, frames, prefix + "\t", "Suppressed: ", depth + 1, seen);
+		}
+		if (cause != null)
+		{
+			append(builder, cause, frames, prefix, "Caused by: ", depth + 1, seen);
+		}
+	}
+
+	private void appendFrames(final StringBuilder builder, final StackTraceElement[] frames,
+			final StackTraceElement[] enclosingFrames, final String prefix)
+	{
+		int last = frames.length - 1;
+		for (int enclosing = enclosingFrames.length - 1; last >= 0 && enclosing >= 0
+				&& frames[last].equals(enclosingFrames[enclosing]); enclosing--)
+		{
+			last--;
+		}
+		final int printed = Math.min(last + 1, maxFrames);
+		for (int i = 0; i < printed; i++)
+		{
+			builder.append(prefix).append("\tat ").append(frames[i]).append(LINE_SEPARATOR);
+		}
+		if (printed < frames.length)
+		{
+			builder.append(prefix).append("\t... ").append(frames.length - printed).append(" more")
+					.append(LINE_SEPARATOR);
+		}
+	}
+
+	private static int countCauses(final Throwable first, final Set<Throwable> seen)
+	{
+		final Set<Throwable> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+		int count = 0;
+		for (Throwable current = first; current != null && !seen.contains(current) && counted.add(current);
+				current = current.getCause())
+		{
+			count++;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,279 @@
+package net.aokv.railway.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Result of an asynchronous computation. Offers the same operations as <code>Result</code>, but
+ * composes them over a <code>CompletionStage</code> and runs them on the given Executor as soon as
+ * the Result is available. None of the operations block.
+ * <p>
+ * Exceptions thrown by the given functions complete the underlying stage exceptionally, just like
+ * with <code>CompletableFuture</code>.
+ *
+ * @param <TSuccess> The type of the contained value.
+ * @param <TFailure> The type of the error object in case of a failure.
+ */
+public final class AsyncResult<TSuccess, TFailure>
+{
+	private final CompletionStage<Result<TSuccess, TFailure>> stage;
+	private final Executor executor;
+
+	private AsyncResult(final CompletionStage<Result<TSuccess, TFailure>> stage, final Executor executor)
+	{
+		this.stage = stage;
+		this.executor = executor;
+	}
+
+	/**
+	 * Creates an AsyncResult from a stage that completes with a Result.
+	 *
+	 * @param stage The stage.
+	 * @param executor The Executor to run the following operations on.
+	 * @return AsyncResult of the stage.
+	 * @throws IllegalArgumentException If stage or executor is null.
+	 */
+	public static <TSuccess, TFailure> AsyncResult<TSuccess, TFailure> of(
+			final CompletionStage<Result<TSuccess, TFailure>> stage, final Executor executor)
+	{
+		Result.assertParameterNotNull(stage, "Stage");
+		Result.assertParameterNotNull(executor, "Executor");
+		return new AsyncResult<>(stage, executor);
+	}
+
+	/**
+	 * Creates an already completed AsyncResult.
+	 *
+	 * @param result The Result.
+	 * @param executor The Executor to run the following operations on.
+	 * @return Completed AsyncResult.
+	 * @throws IllegalArgumentException If result or executor is null.
+	 */
+	public static <TSuccess, TFailure> AsyncResult<TSuccess, TFailure> of(
+			final Result<TSuccess, TFailure> result, final Executor executor)
+	{
+		Result.assertParameterNotNull(result, "Result");
+		return of(CompletableFuture.completedFuture(result), executor);
+	}
+
+	/**
+	 * Runs the given function on the Executor and creates an AsyncResult of its Result.
+	 *
+	 * @param function The function to run.
+	 * @param executor The Executor to run the function and the following operations on.
+	 * @return AsyncResult of the function.
+	 * @throws IllegalArgumentException If function or executor is null.
+	 */
+	public static <TSuccess, TFailure> AsyncResult<TSuccess, TFailure> supply(
+			final Supplier<Result<TSuccess, TFailure>> function, final Executor executor)
+	{
+		Result.assertParameterNotNull(function, "Function");
+		Result.assertParameterNotNull(executor, "Executor");
+		return of(CompletableFuture.supplyAsync(function, executor), executor);
+	}
+
+	/**
+	 * Combines multiple AsyncResults. Completes with the first failed Result to arrive, without
+	 * waiting for the other Results, or with the last Result, if all Results are successful. The
+	 * combination and the following operations run on the Executor of the first AsyncResult.
+	 *
+	 * @param results The AsyncResults to combine.
+	 * @return AsyncResult of the combination.
+	 * @throws IllegalArgumentException If no AsyncResults are given.
+	 */
+	@SafeVarargs
+	public static <TSuccess, TFailure> AsyncResult<TSuccess, TFailure> combine(
+			final AsyncResult<TSuccess, TFailure>... results)
+	{
+		if (results.length == 0)
+		{
+			throw new IllegalArgumentException("At least one AsyncResult is required.");
+		}
+		final List<CompletionStage<? extends Result<?, TFailure>>> stages = new ArrayList<>(results.length);
+		for (final AsyncResult<TSuccess, TFailure> result : results)
+		{
+			stages.add(result.stage);
+		}
+		return new AsyncResult<>(firstFailure(stages, results.length - 1, results[0].executor),
+				results[0].executor);
+	}
+
+	/**
+	 * Returns the underlying stage.
+	 *
+	 * @return The stage that completes with the Result.
+	 */
+	public CompletionStage<Result<TSuccess, TFailure>> toCompletionStage()
+	{
+		return stage;
+	}
+
+	/**
+	 * Combines the AsyncResult with another one. Completes with the first failed Result to
+	 * arrive, without waiting for the other Result, or with the current Result, if both Results
+	 * are successful.
+	 *
+	 * @param otherResult The AsyncResult to combine with the current one.
+	 * @return AsyncResult of the combination.
+	 */
+	public AsyncResult<?, TFailure> combine(final AsyncResult<?, TFailure> otherResult)
+	{
+		final List<CompletionStage<? extends Result<?, TFailure>>> stages = new ArrayList<>(2);
+		stages.add(stage);
+		stages.add(otherResult.stage);
+		return new AsyncResult<>(AsyncResult.<Object, TFailure> firstFailure(stages, 0, executor), executor);
+	}
+
+	/**
+	 * Runs the given asynchronous function, if the Result is successful.
+	 *
+	 * @param function The function to run.
+	 * @return AsyncResult of the function.
+	 */
+	public <T> AsyncResult<T, TFailure> onSuccess(
+			final Supplier<? extends CompletionStage<Result<T, TFailure>>> function)
+	{
+		return new AsyncResult<>(stage.thenComposeAsync(result -> result.isFailure()
+				? CompletableFuture.completedFuture(propagate(result))
+				: function.get(), executor), executor);
+	}
+
+	/**
+	 * Runs the given function, if the Result is successful.
+	 *
+	 * @param function The function to run.
+	 * @return AsyncResult of the current Result.
+	 */
+	public AsyncResult<TSuccess, TFailure> onSuccess(final Consumer<TSuccess> function)
+	{
+		return new AsyncResult<>(
+				stage.thenApplyAsync(result -> result.onSuccess(function), executor), executor);
+	}
+
+	/**
+	 * Runs the given function, if the Result is failed.
+	 *
+	 * @param function The function to run.
+	 * @return AsyncResult of the current Result.
+	 */
+	public AsyncResult<TSuccess, TFailure> onFailure(final Runnable function)
+	{
+		return new AsyncResult<>(
+				stage.thenApplyAsync(result -> result.onFailure(function), executor), executor);
+	}
+
+	/**
+	 * Runs the given function, if the Result is failed.
+	 *
+	 * @param function The function to run.
+	 * @return AsyncResult of the current Result.
+	 */
+	public AsyncResult<TSuccess, TFailure> onFailure(final Consumer<TFailure> function)
+	{
+		return new AsyncResult<>(
+				stage.thenApplyAsync(result -> result.onFailure(function), executor), executor);
+	}
+
+	/**
+	 * Runs the given predicate, if the Result is successful.
+	 *
+	 * @param predicate The predicate to run.
+	 * @param error Error, if the predicate returns false.
+	 * @return AsyncResult with checked value or failed Result.
+	 * @throws IllegalArgumentException If error is null.
+	 */
+	public AsyncResult<TSuccess, TFailure> ensure(
+			final Predicate<TSuccess> predicate, final TFailure error)
+	{
+		Result.assertParameterNotNull(error, "Error");
+		return new AsyncResult<>(
+				stage.thenApplyAsync(result -> result.ensure(predicate, error), executor), executor);
+	}
+
+	/**
+	 * Maps the Result to a Result with another value, if the Result is successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return AsyncResult of the function's value or a failed Result.
+	 */
+	public <T> AsyncResult<T, TFailure> map(final Function<TSuccess, T> function)
+	{
+		return new AsyncResult<>(
+				stage.thenApplyAsync(result -> result.map(function), executor), executor);
+	}
+
+	/**
+	 * Maps the Result to the Result of the given asynchronous function, if the Result is
+	 * successful.
+	 *
+	 * @param function A function that returns a stage of the new Result.
+	 * @return AsyncResult of the function or a failed Result.
+	 */
+	public <T> AsyncResult<T, TFailure> flatMap(
+			final Function<TSuccess, ? extends CompletionStage<Result<T, TFailure>>> function)
+	{
+		return new AsyncResult<>(stage.thenComposeAsync(result -> result.isFailure()
+				? CompletableFuture.completedFuture(propagate(result))
+				: function.apply(result.getValue()), executor), executor);
+	}
+
+	/**
+	 * Completes with the first failed Result to arrive or, if all Results are successful, with the
+	 * Result of the stage at the given index. The stages are observed on the given Executor.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T, TFailure> CompletableFuture<Result<T, TFailure>> firstFailure(
+			final List<CompletionStage<? extends Result<?, TFailure>>> stages, final int successful,
+			final Executor executor)
+	{
+		final CompletableFuture<Result<T, TFailure>> combined = new CompletableFuture<>();
+		final AtomicInteger pending = new AtomicInteger(stages.size());
+		final AtomicReference<Result<?, TFailure>> success = new AtomicReference<>();
+		for (int i = 0; i < stages.size(); i++)
+		{
+			final boolean kept = i == successful;
+			stages.get(i).whenCompleteAsync((result, exception) ->
+			{
+				if (exception != null)
+				{
+					combined.completeExceptionally(exception);
+				}
+				else if (result == null)
+				{
+					combined.completeExceptionally(new IllegalStateException("Stage completed without a Result."));
+				}
+				else if (result.isFailure())
+				{
+					combined.complete((Result<T, TFailure>) result);
+				}
+				else
+				{
+					if (kept)
+					{
+						success.set(result);
+					}
+					if (pending.decrementAndGet() == 0)
+					{
+						combined.complete((Result<T, TFailure>) success.get());
+					}
+				}
+			}, executor);
+		}
+		return combined;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T, TFailure> Result<T, TFailure> propagate(final Result<?, TFailure> failure)
+	{
+		return (Result<T, TFailure>) failure;
+	}
+}
@@ -0,0 +1,20 @@
+package net.aokv.railway.result;
+
+/**
+ * A function that may throw a checked exception, e.g. a JDBC or IO call.
+ *
+ * @param <T> The type of the input.
+ * @param <R> The type of the result.
+ */
+@FunctionalInterface
+public interface CheckedFunction<T, R>
+{
+	/**
+	 * Applies the function to the given input.
+	 *
+	 * @param input The input.
+	 * @return The result.
+	 * @throws Exception If the function fails.
+	 */
+	R apply(T input) throws Exception;
+}
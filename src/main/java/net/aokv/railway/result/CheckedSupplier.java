@@ -0,0 +1,18 @@
+package net.aokv.railway.result;
+
+/**
+ * A supplier that may throw a checked exception, e.g. a JDBC or IO call.
+ *
+ * @param <T> The type of the supplied value.
+ */
+@FunctionalInterface
+public interface CheckedSupplier<T>
+{
+	/**
+	 * Returns a value.
+	 *
+	 * @return The value.
+	 * @throws Exception If the value cannot be supplied.
+	 */
+	T get() throws Exception;
+}
@@ -0,0 +1,295 @@
+package net.aokv.railway.result;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Result of a computation with a primitive <code>double</code> value. Works like a
+ * <code>Result&lt;Double, TFailure&gt;</code> without boxing the value.
+ *
+ * @param <TFailure> The type of the error object in case of a failure.
+ */
+public final class DoubleResult<TFailure>
+{
+	private final double value;
+	private final TFailure error;
+
+	private DoubleResult(final double value, final TFailure error)
+	{
+		this.value = value;
+		this.error = error;
+	}
+
+	/**
+	 * Creates a successful Result with the given value.
+	 *
+	 * @param value The value.
+	 * @return Successful Result with the given value.
+	 */
+	public static <TFailure> DoubleResult<TFailure> withValue(final double value)
+	{
+		return new DoubleResult<>(value, null);
+	}
+
+	/**
+	 * Creates a new Result with the given error.
+	 *
+	 * @param error The error.
+	 * @return Failed Result.
+	 * @throws IllegalArgumentException If error is null.
+	 */
+	public static <TFailure> DoubleResult<TFailure> withError(final TFailure error)
+	{
+		Result.assertParameterNotNull(error, "Error");
+		return new DoubleResult<>(0, error);
+	}
+
+	/**
+	 * Checks whether the Result is failed.
+	 *
+	 * @return Whether the Result is failed.
+	 */
+	public boolean isFailure()
+	{
+		return error != null;
+	}
+
+	/**
+	 * Checks whether the Result is successful.
+	 *
+	 * @return Whether the Result is successful.
+	 */
+	public boolean isSuccess()
+	{
+		return error == null;
+	}
+
+	/**
+	 * Returns the Result's value.
+	 *
+	 * @return The value.
+	 * @throws FailedResultHasNoValueException If Result is failed.
+	 */
+	public double getValue()
+	{
+		if (isFailure())
+		{
+			throw ResultExceptions.failedResultHasNoValue(error);
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the Result's value or the given value, if the Result is failed.
+	 *
+	 * @param other The value to return, if the Result is failed.
+	 * @return The value or the given value.
+	 */
+	public double orElse(final double other)
+	{
+		return isSuccess() ? value : other;
+	}
+
+	/**
+	 * Returns the Result's error.
+	 *
+	 * @return The error.
+	 * @throws SuccessfulResultHasNoErrorException If Result is successful.
+	 */
+	public TFailure getError()
+	{
+		if (isSuccess())
+		{
+			throw ResultExceptions.successfulResultHasNoError();
+		}
+		return error;
+	}
+
+	/**
+	 * Runs the given function, if the Result is successful.
+	 *
+	 * @param function The function to run.
+	 * @return The current Result.
+	 */
+	public DoubleResult<TFailure> onSuccess(final DoubleConsumer function)
+	{
+		if (isSuccess())
+		{
+			function.accept(value);
+		}
+		return this;
+	}
+
+	/**
+	 * Runs the given function, if the Result is failed.
+	 *
+	 * @param function The function to run.
+	 * @return The current Result.
+	 */
+	public DoubleResult<TFailure> onFailure(final Runnable function)
+	{
+		if (isFailure())
+		{
+			function.run();
+		}
+		return this;
+	}
+
+	/**
+	 * Runs the given function, if the Result is failed.
+	 *
+	 * @param function The function to run.
+	 * @return The current Result.
+	 */
+	public DoubleResult<TFailure> onFailure(final Consumer<TFailure> function)
+	{
+		if (isFailure())
+		{
+			function.accept(error);
+		}
+		return this;
+	}
+
+	/**
+	 * Runs the given predicate, if the Result is successful.
+	 *
+	 * @param predicate The predicate to run.
+	 * @param error Error, if the predicate returns false or throws an exception.
+	 * @return Result with checked value or failed Result.
+	 * @throws IllegalArgumentException If error is null.
+	 */
+	public DoubleResult<TFailure> ensure(final DoublePredicate predicate, final TFailure error)
+	{
+		Result.assertParameterNotNull(error, "Error");
+		if (isFailure())
+		{
+			return this;
+		}
+		try
+		{
+			if (predicate.test(value))
+			{
+				return this;
+			}
+		}
+		catch (final Exception exception)
+		{
+			// handled like a failed check
+		}
+		return withError(error);
+	}
+
+	/**
+	 * Maps the Result to a Result with another value, if the Result is successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return The Result of the function's value or a failed Result.
+	 */
+	public DoubleResult<TFailure> map(final DoubleUnaryOperator function)
+	{
+		if (isFailure())
+		{
+			return this;
+		}
+		return withValue(function.applyAsDouble(value));
+	}
+
+	/**
+	 * Maps the Result to the Result of the given function, if the Result is successful.
+	 *
+	 * @param function A function that returns the new Result.
+	 * @return The Result of the function or a failed Result.
+	 */
+	public DoubleResult<TFailure> flatMap(final DoubleFunction<DoubleResult<TFailure>> function)
+	{
+		if (isFailure())
+		{
+			return this;
+		}
+		return function.apply(value);
+	}
+
+	/**
+	 * Maps the Result to a Result with an object value, if the Result is successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return The Result of the function's value or a failed Result.
+	 */
+	public <T> Result<T, TFailure> mapToObj(final DoubleFunction<T> function)
+	{
+		if (isFailure())
+		{
+			return new Failure<>(error);
+		}
+		return new Success<>(function.apply(value));
+	}
+
+	/**
+	 * Maps the Result to a Result with an <code>int</code> value, if the Result is successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return The Result of the function's value or a failed Result.
+	 */
+	public IntResult<TFailure> mapToInt(final DoubleToIntFunction function)
+	{
+		if (isFailure())
+		{
+			return IntResult.withError(error);
+		}
+		return IntResult.withValue(function.applyAsInt(value));
+	}
+
+	/**
+	 * Maps the Result to a Result with a <code>long</code> value, if the Result is successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return The Result of the function's value or a failed Result.
+	 */
+	public LongResult<TFailure> mapToLong(final DoubleToLongFunction function)
+	{
+		if (isFailure())
+		{
+			return LongResult.withError(error);
+		}
+		return LongResult.withValue(function.applyAsLong(value));
+	}
+
+	/**
+	 * Converts the Result into a Result with a boxed value.
+	 *
+	 * @return Result with the boxed value or a failed Result.
+	 */
+	public Result<Double, TFailure> boxed()
+	{
+		return mapToObj(Double::valueOf);
+	}
+
+	/**
+	 * Returns the Result as a string. Uses the same format as <code>Result</code>.
+	 *
+	 * @return The Result as a string.
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder result = new StringBuilder("Result (");
+		if (isFailure())
+		{
+			result.append("Error: ");
+			result.append(error);
+		}
+		else
+		{
+			result.append("Success with value <");
+			result.append(value);
+			result.append('>');
+		}
+		result.append(')');
+		return result.toString();
+	}
+}
@@ -4,4 +4,14 @@ package net.aokv.railway.result;
 public class EmptyResultHasNoValueException extends RuntimeException
 {
 	private static final long serialVersionUID = 4644560581694107308L;
+
+	public EmptyResultHasNoValueException()
+	{
+		super();
+	}
+
+	EmptyResultHasNoValueException(final boolean writableStackTrace)
+	{
+		super(null, null, writableStackTrace, writableStackTrace);
+	}
 }
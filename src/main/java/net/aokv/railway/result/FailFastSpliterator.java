@@ -0,0 +1,128 @@
+package net.aokv.railway.result;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Applies a function to the elements of a Spliterator and passes on the values of the successful
+ * Results. All splits share the index of the first failure found so far, so elements after it are
+ * not evaluated in any split, while elements before it are still evaluated to find the first
+ * failure in encounter order. Only sources with exact sizes for all splits are split, as the index
+ * of an element is derived from the sizes of the splits before it.
+ */
+final class FailFastSpliterator<T, TSuccess, TFailure> implements Spliterator<TSuccess>, Consumer<T>
+{
+	private final Spliterator<T> source;
+	private final Function<? super T, Result<TSuccess, TFailure>> function;
+	private final Failures<TFailure> failures;
+	private long index;
+	private Consumer<? super TSuccess> action;
+	private boolean failed;
+
+	FailFastSpliterator(final Spliterator<T> source, final Function<? super T, Result<TSuccess, TFailure>> function)
+	{
+		this(source, function, new Failures<>(), 0);
+	}
+
+	private FailFastSpliterator(final Spliterator<T> source,
+			final Function<? super T, Result<TSuccess, TFailure>> function, final Failures<TFailure> failures,
+			final long index)
+	{
+		this.source = source;
+		this.function = function;
+		this.failures = failures;
+		this.index = index;
+	}
+
+	/**
+	 * Returns the first failure in encounter order. Must only be called after all elements have
+	 * been traversed.
+	 *
+	 * @return The first failed Result or null.
+	 */
+	Result<?, TFailure> getFailure()
+	{
+		return failures.failure;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super TSuccess> action)
+	{
+		if (failed || index >= failures.index)
+		{
+			return false;
+		}
+		this.action = action;
+		try
+		{
+			return source.tryAdvance(this) && !failed;
+		}
+		finally
+		{
+			this.action = null;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void accept(final T input)
+	{
+		final Result<TSuccess, TFailure> result = function.apply(input);
+		if (result.isFailure())
+		{
+			failed = true;
+			failures.fail(index, result);
+		}
+		else
+		{
+			index++;
+			action.accept((TSuccess) Stages.rawValueOf(result));
+		}
+	}
+
+	@Override
+	public Spliterator<TSuccess> trySplit()
+	{
+		if (failed || index >= failures.index || !source.hasCharacteristics(SUBSIZED))
+		{
+			return null;
+		}
+		final Spliterator<T> prefix = source.trySplit();
+		if (prefix == null)
+		{
+			return null;
+		}
+		final FailFastSpliterator<T, TSuccess, TFailure> split =
+				new FailFastSpliterator<>(prefix, function, failures, index);
+		index += prefix.getExactSizeIfKnown();
+		return split;
+	}
+
+	@Override
+	public long estimateSize()
+	{
+		return source.estimateSize();
+	}
+
+	@Override
+	public int characteristics()
+	{
+		return source.characteristics() & ORDERED;
+	}
+
+	private static final class Failures<TFailure>
+	{
+		private volatile long index = Long.MAX_VALUE;
+		private Result<?, TFailure> failure;
+
+		private synchronized void fail(final long at, final Result<?, TFailure> result)
+		{
+			if (at < index)
+			{
+				failure = result;
+				index = at;
+			}
+		}
+	}
+}
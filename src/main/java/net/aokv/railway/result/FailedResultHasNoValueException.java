@@ -12,6 +12,12 @@ public class FailedResultHasNoValueException extends RuntimeException
 		this.error = error;
 	}
 
+	FailedResultHasNoValueException(final Object error, final boolean writableStackTrace)
+	{
+		super(null, null, true, writableStackTrace);
+		this.error = error;
+	}
+
 	public Object getError()
 	{
 		return error;
@@ -1,9 +1,15 @@
 package net.aokv.railway.result;
 
+import java.io.IOException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import net.aokv.railway.text.Renderable;
 
 public class Failure<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 {
@@ -23,7 +29,7 @@ public class Failure<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 	@Override
 	public TSuccess getValue()
 	{
-		throw new FailedResultHasNoValueException(getError());
+		throw ResultExceptions.failedResultHasNoValue(getError());
 	}
 
 	@Override
@@ -35,11 +41,15 @@ public class Failure<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 	@Override
 	public String toString()
 	{
-		final StringBuilder result = new StringBuilder("Result (");
-		result.append("Error: ");
-		result.append(getError());
-		result.append(')');
-		return result.toString();
+		return appendTo(new StringBuilder()).toString();
+	}
+
+	@Override
+	public void render(final Appendable appendable) throws IOException
+	{
+		appendable.append("Result (Error: ");
+		Renderable.append(appendable, getError());
+		appendable.append(')');
 	}
 
 	@Override
@@ -53,14 +63,14 @@ public class Failure<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 	public <T> Result<T, TFailure> onSuccess(
 			final Supplier<Result<T, TFailure>> function)
 	{
-		return new Failure<>(getError());
+		return propagate();
 	}
 
 	@Override
 	public <T> Result<T, TFailure> onSuccess(
 			final Supplier<T> function, final Class<T> clazz)
 	{
-		return new Failure<>(getError());
+		return propagate();
 	}
 
 	@Override
@@ -79,20 +89,45 @@ public class Failure<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 	@Override
 	public <T> Result<T, TFailure> flatMap(final Function<TSuccess, Result<T, TFailure>> function)
 	{
-		return new Failure<>(getError());
+		return propagate();
 	}
 
 	@Override
 	public <T> Result<T, TFailure> map(final Function<TSuccess, T> function)
 	{
-		return new Failure<>(getError());
+		return propagate();
+	}
+
+	@Override
+	public <T> Result<T, TFailure> attemptMap(
+			final CheckedFunction<TSuccess, T> function, final Function<? super Exception, TFailure> mapper)
+	{
+		return propagate();
+	}
+
+	@Override
+	public IntResult<TFailure> mapToInt(final ToIntFunction<TSuccess> function)
+	{
+		return IntResult.withError(getError());
+	}
+
+	@Override
+	public LongResult<TFailure> mapToLong(final ToLongFunction<TSuccess> function)
+	{
+		return LongResult.withError(getError());
+	}
+
+	@Override
+	public DoubleResult<TFailure> mapToDouble(final ToDoubleFunction<TSuccess> function)
+	{
+		return DoubleResult.withError(getError());
 	}
 
 	@Override
 	public <T> Result<T, TFailure> ifValueIsPresent(
 			final Class<T> innerValue, final TFailure error)
 	{
-		return new Failure<>(getError());
+		return propagate();
 	}
 
 	@Override
@@ -119,4 +154,14 @@ public class Failure<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 		}
 		return this;
 	}
+
+	/**
+	 * Returns this Failure typed for another value. A Failure never holds a value, so the same
+	 * instance can be handed down the chain instead of allocating a new one per stage.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Result<T, TFailure> propagate()
+	{
+		return (Result<T, TFailure>) this;
+	}
 }
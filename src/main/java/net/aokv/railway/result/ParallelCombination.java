@@ -0,0 +1,118 @@
+package net.aokv.railway.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates the functions of <code>Result.combineParallel</code> concurrently and returns as soon
+ * as the first failed Result arrives.
+ */
+final class ParallelCombination
+{
+	private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+	private ParallelCombination()
+	{
+	}
+
+	/**
+	 * Returns the Executor used if none is given: a virtual thread per task on Java 21 and newer,
+	 * otherwise a cached pool of daemon threads.
+	 */
+	static Executor defaultExecutor()
+	{
+		return DEFAULT_EXECUTOR;
+	}
+
+	private static Executor createDefaultExecutor()
+	{
+		try
+		{
+			return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null);
+		}
+		catch (final ReflectiveOperationException exception)
+		{
+			return Executors.newCachedThreadPool(runnable ->
+			{
+				final Thread thread = new Thread(runnable, "railway-combine");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	static <TSuccess, TFailure> Result<TSuccess, TFailure> combine(
+			final Executor executor, final Supplier<Result<TSuccess, TFailure>>[] functions)
+	{
+		Result.assertParameterNotNull(executor, "Executor");
+		if (functions.length == 0)
+		{
+			throw new IllegalArgumentException("At least one function is required.");
+		}
+		for (final Supplier<Result<TSuccess, TFailure>> function : functions)
+		{
+			Result.assertParameterNotNull(function, "Function");
+		}
+		final CompletionService<Result<TSuccess, TFailure>> completion =
+				new ExecutorCompletionService<>(executor);
+		final List<Future<Result<TSuccess, TFailure>>> futures = new ArrayList<>(functions.length);
+		try
+		{
+			for (final Supplier<Result<TSuccess, TFailure>> function : functions)
+			{
+				futures.add(completion.submit(function::get));
+			}
+			for (int i = 0; i < functions.length; i++)
+			{
+				final Result<TSuccess, TFailure> result = completion.take().get();
+				Result.assertParameterNotNull(result, "Result of a function");
+				if (result.isFailure())
+				{
+					return result;
+				}
+			}
+			return futures.get(functions.length - 1).get();
+		}
+		catch (final ExecutionException exception)
+		{
+			throw rethrow(exception.getCause());
+		}
+		catch (final InterruptedException exception)
+		{
+			Thread.currentThread().interrupt();
+			final CancellationException cancellation =
+					new CancellationException("Interrupted while combining Results.");
+			cancellation.initCause(exception);
+			throw cancellation;
+		}
+		finally
+		{
+			for (final Future<Result<TSuccess, TFailure>> future : futures)
+			{
+				future.cancel(true);
+			}
+		}
+	}
+
+	private static RuntimeException rethrow(final Throwable cause)
+	{
+		if (cause instanceof Error)
+		{
+			throw (Error) cause;
+		}
+		if (cause instanceof RuntimeException)
+		{
+			return (RuntimeException) cause;
+		}
+		return new IllegalStateException(cause);
+	}
+}
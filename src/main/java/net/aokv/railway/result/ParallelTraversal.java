@@ -0,0 +1,97 @@
+package net.aokv.railway.result;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Applies a function to all elements of a list with fork/join. The values are written into a
+ * pre-sized array at their index, so the order is preserved. The array is returned without a
+ * copy, as an unmodifiable list like the result of the sequential traversal. Once a failure has
+ * been found, elements after it are neither scheduled nor evaluated, while elements before it are
+ * still evaluated to find the first failure in encounter order.
+ */
+final class ParallelTraversal<T, U, TFailure>
+{
+	private static final int SPLITS_PER_THREAD = 4;
+
+	private final List<T> inputs;
+	private final Function<? super T, Result<U, TFailure>> function;
+	private final Object[] values;
+	private final int threshold;
+	private volatile int failureIndex = Integer.MAX_VALUE;
+	private Result<U, TFailure> failure;
+
+	private ParallelTraversal(final List<T> inputs, final Function<? super T, Result<U, TFailure>> function,
+			final int parallelism)
+	{
+		this.inputs = inputs;
+		this.function = function;
+		this.values = new Object[inputs.size()];
+		this.threshold = Math.max(1, inputs.size() / (parallelism * SPLITS_PER_THREAD));
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T, U, TFailure> Result<List<U>, TFailure> traverse(final List<T> inputs,
+			final Function<? super T, Result<U, TFailure>> function, final ForkJoinPool pool)
+	{
+		final ParallelTraversal<T, U, TFailure> traversal =
+				new ParallelTraversal<>(inputs, function, pool.getParallelism());
+		pool.invoke(traversal.new Range(0, inputs.size()));
+		if (traversal.failure != null)
+		{
+			return (Result<List<U>, TFailure>) (Result<?, TFailure>) traversal.failure;
+		}
+		return new Success<>(Collections.unmodifiableList(Arrays.asList((U[]) traversal.values)));
+	}
+
+	private synchronized void fail(final int index, final Result<U, TFailure> result)
+	{
+		if (index < failureIndex)
+		{
+			failure = result;
+			failureIndex = index;
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private final class Range extends RecursiveAction
+	{
+		private final int from;
+		private final int to;
+
+		private Range(final int from, final int to)
+		{
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (from > failureIndex)
+			{
+				return;
+			}
+			if (to - from > threshold)
+			{
+				final int middle = (from + to) >>> 1;
+				invokeAll(new Range(from, middle), new Range(middle, to));
+				return;
+			}
+			for (int i = from; i < to && i < failureIndex; i++)
+			{
+				final Result<U, TFailure> result = function.apply(inputs.get(i));
+				if (result.isFailure())
+				{
+					fail(i, result);
+					return;
+				}
+				values[i] = Stages.rawValueOf(result);
+			}
+		}
+	}
+}
@@ -0,0 +1,255 @@
+package net.aokv.railway.result;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A reusable Result chain. It is defined once with the usual Result operations and can then be
+ * applied to any number of inputs without building the chain again. Every operation composes the
+ * chain into a single function when the Pipeline is defined. That function passes the plain values
+ * from stage to stage and only creates the Result of the last stage, so applying the Pipeline
+ * neither captures lambdas nor creates intermediate Results. Immutable: every operation returns a
+ * new Pipeline, and a Pipeline can be shared by any number of threads, as long as its functions are
+ * thread-safe.
+ *
+ * <pre>
+ * private static final Pipeline&lt;String, String, String&gt; USERNAME = Pipeline.&lt;String, String&gt; start()
+ * 		.map(String::trim)
+ * 		.ensure(name -&gt; !name.isEmpty(), "Username is empty");
+ *
+ * Pipeline&lt;User, User, String&gt; changePassword = Pipeline.&lt;User, String&gt; start()
+ * 		.ensure(User::isActive, "User is not active")
+ * 		.flatMap(userRepo::update);
+ *
+ * Result&lt;User, String&gt; result = changePassword.apply(user);
+ * </pre>
+ *
+ * @param <TInput> The type of the input value.
+ * @param <TSuccess> The type of the resulting value.
+ * @param <TFailure> The type of the error object in case of a failure.
+ */
+public final class Pipeline<TInput, TSuccess, TFailure>
+		implements Function<TInput, Result<TSuccess, TFailure>>
+{
+	private static final Pipeline<?, ?, ?> EMPTY = new Pipeline<>(value -> value);
+
+	/**
+	 * Takes the value of the previous stage and returns the next value, or a Stop, if the
+	 * chain failed. An empty Result is represented by null.
+	 */
+	private final Function<Object, Object> chain;
+
+	private Pipeline(final Function<Object, Object> chain)
+	{
+		this.chain = chain;
+	}
+
+	/**
+	 * Starts a new Pipeline that returns its input.
+	 *
+	 * @return Pipeline without operations.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <TInput, TFailure> Pipeline<TInput, TInput, TFailure> start()
+	{
+		return (Pipeline<TInput, TInput, TFailure>) EMPTY;
+	}
+
+	/**
+	 * Runs the Pipeline on the given input.
+	 *
+	 * @param input The input value.
+	 * @return The Result of the Pipeline.
+	 * @throws IllegalArgumentException If input is null.
+	 */
+	@Override
+	public Result<TSuccess, TFailure> apply(final TInput input)
+	{
+		Result.assertParameterNotNull(input, "Value");
+		return finish(chain.apply(input));
+	}
+
+	/**
+	 * Runs the Pipeline on the given Result.
+	 *
+	 * @param input The input Result.
+	 * @return The Result of the Pipeline.
+	 */
+	public Result<TSuccess, TFailure> applyTo(final Result<TInput, TFailure> input)
+	{
+		Result.assertParameterNotNull(input, "Input");
+		return finish(chain.apply(input.isFailure() ? new Stop(input) : Stages.rawValueOf(input)));
+	}
+
+	/**
+	 * Adds a function that runs, if the Result is successful.
+	 *
+	 * @param function The function to run.
+	 * @return The extended Pipeline.
+	 */
+	public <T> Pipeline<TInput, T, TFailure> onSuccess(final Supplier<Result<T, TFailure>> function)
+	{
+		Result.assertParameterNotNull(function, "Function");
+		final Function<Object, Object> previous = chain;
+		return new Pipeline<>(input ->
+		{
+			final Object value = previous.apply(input);
+			return value instanceof Stop ? value : unwrap(function.get());
+		});
+	}
+
+	/**
+	 * Adds a function that runs, if the Result is successful.
+	 *
+	 * @param function The function to run.
+	 * @return The extended Pipeline.
+	 */
+	@SuppressWarnings("unchecked")
+	public Pipeline<TInput, TSuccess, TFailure> onSuccess(final Consumer<TSuccess> function)
+	{
+		Result.assertParameterNotNull(function, "Function");
+		final Function<Object, Object> previous = chain;
+		return new Pipeline<>(input ->
+		{
+			final Object value = previous.apply(input);
+			if (!(value instanceof Stop))
+			{
+				function.accept((TSuccess) Stages.requireValue(value));
+			}
+			return value;
+		});
+	}
+
+	/**
+	 * Adds a function that runs, if the Result is failed.
+	 *
+	 * @param function The function to run.
+	 * @return The extended Pipeline.
+	 */
+	public Pipeline<TInput, TSuccess, TFailure> onFailure(final Runnable function)
+	{
+		Result.assertParameterNotNull(function, "Function");
+		final Function<Object, Object> previous = chain;
+		return new Pipeline<>(input ->
+		{
+			final Object value = previous.apply(input);
+			if (value instanceof Stop)
+			{
+				function.run();
+			}
+			return value;
+		});
+	}
+
+	/**
+	 * Adds a function that runs, if the Result is failed.
+	 *
+	 * @param function The function to run.
+	 * @return The extended Pipeline.
+	 */
+	@SuppressWarnings("unchecked")
+	public Pipeline<TInput, TSuccess, TFailure> onFailure(final Consumer<TFailure> function)
+	{
+		Result.assertParameterNotNull(function, "Function");
+		final Function<Object, Object> previous = chain;
+		return new Pipeline<>(input ->
+		{
+			final Object value = previous.apply(input);
+			if (value instanceof Stop)
+			{
+				function.accept((TFailure) ((Stop) value).failure.getError());
+			}
+			return value;
+		});
+	}
+
+	/**
+	 * Adds a predicate that runs, if the Result is successful.
+	 *
+	 * @param predicate The predicate to run.
+	 * @param error Error, if the predicate returns false.
+	 * @return The extended Pipeline.
+	 */
+	public Pipeline<TInput, TSuccess, TFailure> ensure(final Predicate<TSuccess> predicate,
+			final TFailure error)
+	{
+		Result.assertParameterNotNull(predicate, "Predicate");
+		Result.assertParameterNotNull(error, "Error");
+		final Function<Object, Object> previous = chain;
+		return new Pipeline<>(input ->
+		{
+			final Object value = previous.apply(input);
+			if (value instanceof Stop || Stages.test(predicate, Stages.requireValue(value)))
+			{
+				return value;
+			}
+			return new Stop(new Failure<>(error));
+		});
+	}
+
+	/**
+	 * Adds a function that returns the next Result, if the Result is successful.
+	 *
+	 * @param function A function that returns the new Result.
+	 * @return The extended Pipeline.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Pipeline<TInput, T, TFailure> flatMap(final Function<TSuccess, Result<T, TFailure>> function)
+	{
+		Result.assertParameterNotNull(function, "Function");
+		final Function<Object, Object> previous = chain;
+		return new Pipeline<>(input ->
+		{
+			final Object value = previous.apply(input);
+			return value instanceof Stop ? value : unwrap(function.apply((TSuccess) Stages.requireValue(value)));
+		});
+	}
+
+	/**
+	 * Adds a function that maps the value, if the Result is successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return The extended Pipeline.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Pipeline<TInput, T, TFailure> map(final Function<TSuccess, T> function)
+	{
+		Result.assertParameterNotNull(function, "Function");
+		final Function<Object, Object> previous = chain;
+		return new Pipeline<>(input ->
+		{
+			final Object value = previous.apply(input);
+			return value instanceof Stop ? value : function.apply((TSuccess) Stages.requireValue(value));
+		});
+	}
+
+	private static Object unwrap(final Result<?, ?> result)
+	{
+		return result.isFailure() ? new Stop(result) : Stages.rawValueOf(result);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <TSuccess, TFailure> Result<TSuccess, TFailure> finish(final Object value)
+	{
+		if (value instanceof Stop)
+		{
+			return (Result<TSuccess, TFailure>) ((Stop) value).failure;
+		}
+		return value == null ? Success.empty() : new Success<>((TSuccess) value);
+	}
+
+	/**
+	 * Carries a failed Result through the remaining stages. Only created, if the chain fails.
+	 */
+	private static final class Stop
+	{
+		private final Result<?, ?> failure;
+
+		private Stop(final Result<?, ?> failure)
+		{
+			this.failure = failure;
+		}
+	}
+}
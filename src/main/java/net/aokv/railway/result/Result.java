@@ -1,10 +1,21 @@
 package net.aokv.railway.result;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import net.aokv.railway.text.Renderable;
 
 /**
  * Result of a computation or any other action. Can be successful and contain a value (TSuccess) or
@@ -13,7 +24,7 @@ import java.util.function.Supplier;
  * @param <TSuccess> The type of the contained value.
  * @param <TFailure> The type of the error object in case of a failure.
  */
-public abstract class Result<TSuccess, TFailure>
+public abstract class Result<TSuccess, TFailure> implements Renderable
 {
 	/**
 	 * Creates a new Result with the given error.
@@ -28,13 +39,13 @@ public abstract class Result<TSuccess, TFailure>
 	}
 
 	/**
-	 * Creates a new Result without a value.
+	 * Creates a new Result without a value. All Results without a value share the same instance.
 	 *
 	 * @return Successful Result.
 	 */
 	public static <TFailure> Result<Void, TFailure> withoutValue()
 	{
-		return new Success<>(null);
+		return Success.empty();
 	}
 
 	/**
@@ -85,6 +96,44 @@ public abstract class Result<TSuccess, TFailure>
 		return withValue(valueOrNothing.get());
 	}
 
+	/**
+	 * Creates a Result from a call that may throw an exception. If the call throws an exception,
+	 * the mapper converts it into the error of a failed Result.
+	 *
+	 * @param supplier The call that returns the value.
+	 * @param mapper Function that converts an exception into an error.
+	 * @return Successful Result with the value of the call or failed Result.
+	 * @throws IllegalArgumentException If the call returns null or the mapper returns null. In
+	 *         the latter case, the exception of the call is the cause.
+	 */
+	public static <TSuccess, TFailure> Result<TSuccess, TFailure> attempt(
+			final CheckedSupplier<TSuccess> supplier, final Function<? super Exception, TFailure> mapper)
+	{
+		assertParameterNotNull(supplier, "Supplier");
+		assertParameterNotNull(mapper, "Mapper");
+		final TSuccess value;
+		try
+		{
+			value = supplier.get();
+		}
+		catch (final Exception exception)
+		{
+			return new Failure<>(mapException(mapper, exception));
+		}
+		return withValue(value);
+	}
+
+	static <TFailure> TFailure mapException(final Function<? super Exception, TFailure> mapper,
+			final Exception exception)
+	{
+		final TFailure error = mapper.apply(exception);
+		if (error == null)
+		{
+			throw new IllegalArgumentException("Error of the mapper may not be null.", exception);
+		}
+		return error;
+	}
+
 	protected static void assertParameterNotNull(final Object parameter, final String name)
 	{
 		if (parameter == null)
@@ -143,6 +192,21 @@ public abstract class Result<TSuccess, TFailure>
 	@Override
 	public abstract String toString();
 
+	/**
+	 * Writes the Result to the given Appendable in the same format as {@link #toString()}.
+	 * Successful and failed Results write values and errors that are Renderable without creating
+	 * intermediate strings. Other subclasses write the result of <code>toString()</code>, unless
+	 * they override it.
+	 *
+	 * @param appendable The Appendable to write to.
+	 * @throws IOException If the Appendable cannot be written to.
+	 */
+	@Override
+	public void render(final Appendable appendable) throws IOException
+	{
+		appendable.append(toString());
+	}
+
 	/**
 	 * Combines multiple Results. Returns the first failed Result or a successful Result without a
 	 * value, if all Results are successful.
@@ -248,6 +312,46 @@ public abstract class Result<TSuccess, TFailure>
 	public abstract <T> Result<T, TFailure> map(
 			final Function<TSuccess, T> function);
 
+	/**
+	 * Maps the Result to a Result with another value, if the Result is successful. If the function
+	 * throws an exception, the mapper converts it into the error of a failed Result.
+	 *
+	 * @param function A function that returns the new value.
+	 * @param mapper Function that converts an exception into an error.
+	 * @return The Result of the function's value or a failed Result.
+	 * @throws IllegalArgumentException If the function returns null or the mapper returns null. In
+	 *         the latter case, the exception of the function is the cause.
+	 */
+	public abstract <T> Result<T, TFailure> attemptMap(
+			final CheckedFunction<TSuccess, T> function, final Function<? super Exception, TFailure> mapper);
+
+	/**
+	 * Maps the Result to a Result with a primitive <code>int</code> value, if the Result is
+	 * successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return The Result of the function's value or a failed Result.
+	 */
+	public abstract IntResult<TFailure> mapToInt(final ToIntFunction<TSuccess> function);
+
+	/**
+	 * Maps the Result to a Result with a primitive <code>long</code> value, if the Result is
+	 * successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return The Result of the function's value or a failed Result.
+	 */
+	public abstract LongResult<TFailure> mapToLong(final ToLongFunction<TSuccess> function);
+
+	/**
+	 * Maps the Result to a Result with a primitive <code>double</code> value, if the Result is
+	 * successful.
+	 *
+	 * @param function A function that returns the new value.
+	 * @return The Result of the function's value or a failed Result.
+	 */
+	public abstract DoubleResult<TFailure> mapToDouble(final ToDoubleFunction<TSuccess> function);
+
 	/**
 	 * Extracts the inner value from an Optional value of the Result.
 	 *
@@ -278,4 +382,114 @@ public abstract class Result<TSuccess, TFailure>
 		}
 		return lastResult;
 	}
+
+	/**
+	 * Evaluates the given functions concurrently on the given Executor. Returns the first failed
+	 * Result to arrive and cancels the functions that are still running, or the Result of the last
+	 * function, if all Results are successful.
+	 *
+	 * @param executor The Executor to run the functions on.
+	 * @param functions The functions that compute the Results to combine.
+	 * @param <TSuccess> The type of the contained value.
+	 * @param <TFailure> The type of the error object in case of a failure.
+	 * @return The first failure to arrive or the last function's Result.
+	 * @throws IllegalArgumentException If executor is null, no functions are given or a function
+	 *         is or returns null.
+	 * @throws java.util.concurrent.CancellationException If the calling thread is interrupted.
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs") // The functions are only read.
+	public static <TSuccess, TFailure> Result<TSuccess, TFailure> combineParallel(
+			final Executor executor, final Supplier<Result<TSuccess, TFailure>>... functions)
+	{
+		return ParallelCombination.combine(executor, functions);
+	}
+
+	/**
+	 * Evaluates the given functions concurrently, on virtual threads where available. Returns the
+	 * first failed Result to arrive and cancels the functions that are still running, or the
+	 * Result of the last function, if all Results are successful.
+	 *
+	 * @param functions The functions that compute the Results to combine.
+	 * @param <TSuccess> The type of the contained value.
+	 * @param <TFailure> The type of the error object in case of a failure.
+	 * @return The first failure to arrive or the last function's Result.
+	 * @throws IllegalArgumentException If no functions are given or a function is or returns null.
+	 * @throws java.util.concurrent.CancellationException If the calling thread is interrupted.
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs") // The functions are only read.
+	public static <TSuccess, TFailure> Result<TSuccess, TFailure> combineParallel(
+			final Supplier<Result<TSuccess, TFailure>>... functions)
+	{
+		return ParallelCombination.combine(ParallelCombination.defaultExecutor(), functions);
+	}
+
+	/**
+	 * Applies the given function to all inputs. Stops at the first failed Result.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @param <T> The type of the inputs.
+	 * @param <TSuccess> The type of the function's values.
+	 * @param <TFailure> The type of the error object in case of a failure.
+	 * @return The first failed Result or a Result with an unmodifiable list of the values in the
+	 *         order of the inputs.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, TSuccess, TFailure> Result<List<TSuccess>, TFailure> traverse(
+			final List<T> inputs, final Function<? super T, Result<TSuccess, TFailure>> function)
+	{
+		final List<TSuccess> values = new ArrayList<>(inputs.size());
+		for (final T input : inputs)
+		{
+			final Result<TSuccess, TFailure> result = function.apply(input);
+			if (result.isFailure())
+			{
+				return (Result<List<TSuccess>, TFailure>) (Result<?, TFailure>) result;
+			}
+			values.add((TSuccess) Stages.rawValueOf(result));
+		}
+		return new Success<>(Collections.unmodifiableList(values));
+	}
+
+	/**
+	 * Applies the given function to all inputs in parallel on the common fork/join pool.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input. Must be thread-safe.
+	 * @param <T> The type of the inputs.
+	 * @param <TSuccess> The type of the function's values.
+	 * @param <TFailure> The type of the error object in case of a failure.
+	 * @return The first failed Result in the order of the inputs or a Result with an unmodifiable
+	 *         list of the values in the order of the inputs.
+	 * @see #traverseParallel(List, Function, ForkJoinPool)
+	 */
+	public static <T, TSuccess, TFailure> Result<List<TSuccess>, TFailure> traverseParallel(
+			final List<T> inputs, final Function<? super T, Result<TSuccess, TFailure>> function)
+	{
+		return traverseParallel(inputs, function, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Applies the given function to all inputs in parallel on the given fork/join pool. The
+	 * values are kept in the order of the inputs. Once a failed Result has been found, no inputs
+	 * after it are evaluated anymore.
+	 *
+	 * @param inputs The inputs. Should support fast random access.
+	 * @param function The function to apply to each input. Must be thread-safe.
+	 * @param pool The pool to run the function on.
+	 * @param <T> The type of the inputs.
+	 * @param <TSuccess> The type of the function's values.
+	 * @param <TFailure> The type of the error object in case of a failure.
+	 * @return The first failed Result in the order of the inputs or a Result with an unmodifiable
+	 *         list of the values in the order of the inputs.
+	 */
+	public static <T, TSuccess, TFailure> Result<List<TSuccess>, TFailure> traverseParallel(
+			final List<T> inputs, final Function<? super T, Result<TSuccess, TFailure>> function,
+			final ForkJoinPool pool)
+	{
+		assertParameterNotNull(pool, "Pool");
+		return ParallelTraversal.traverse(inputs, function, pool);
+	}
 }
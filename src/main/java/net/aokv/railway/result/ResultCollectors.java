@@ -0,0 +1,353 @@
+package net.aokv.railway.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Collectors for streams of Results. All of them combine partial results in encounter order, so
+ * they give the same outcome on sequential and parallel streams.
+ * <p>
+ * The variants with an expected size pre-size their lists to avoid copying while they grow. Every
+ * partial list gets that capacity, so they are meant for sequential streams. On a parallel stream,
+ * pass the expected size per partition.
+ * <p>
+ * Successful Results without a value do not contribute any values.
+ */
+public final class ResultCollectors
+{
+	private static final int DEFAULT_SIZE = 10;
+
+	/**
+	 * Successful and failed Results of a stream, separated into two lists.
+	 *
+	 * @param <TSuccess> The type of the values.
+	 * @param <TFailure> The type of the errors.
+	 */
+	public static final class Partition<TSuccess, TFailure>
+	{
+		private final List<TSuccess> successes;
+		private final List<TFailure> failures;
+
+		private Partition(final int expectedSize)
+		{
+			successes = new ArrayList<>(expectedSize);
+			failures = new ArrayList<>();
+		}
+
+		/**
+		 * Returns the values of the successful Results.
+		 *
+		 * @return The values in encounter order.
+		 */
+		public List<TSuccess> getSuccesses()
+		{
+			return successes;
+		}
+
+		/**
+		 * Returns the errors of the failed Results.
+		 *
+		 * @return The errors in encounter order.
+		 */
+		public List<TFailure> getFailures()
+		{
+			return failures;
+		}
+
+		private void add(final Result<TSuccess, TFailure> result)
+		{
+			if (result.isFailure())
+			{
+				failures.add(result.getError());
+			}
+			else
+			{
+				addValue(successes, result);
+			}
+		}
+
+		private Partition<TSuccess, TFailure> addAll(final Partition<TSuccess, TFailure> other)
+		{
+			successes.addAll(other.successes);
+			failures.addAll(other.failures);
+			return this;
+		}
+	}
+
+	/**
+	 * Number of successful and failed Results of a stream.
+	 */
+	public static final class Counts
+	{
+		private long successes;
+		private long failures;
+
+		private Counts()
+		{
+		}
+
+		/**
+		 * Returns the number of successful Results.
+		 *
+		 * @return The number of successful Results.
+		 */
+		public long getSuccesses()
+		{
+			return successes;
+		}
+
+		/**
+		 * Returns the number of failed Results.
+		 *
+		 * @return The number of failed Results.
+		 */
+		public long getFailures()
+		{
+			return failures;
+		}
+
+		/**
+		 * Returns the number of all Results.
+		 *
+		 * @return The number of all Results.
+		 */
+		public long getTotal()
+		{
+			return successes + failures;
+		}
+
+		private void add(final Result<?, ?> result)
+		{
+			if (result.isFailure())
+			{
+				failures++;
+			}
+			else
+			{
+				successes++;
+			}
+		}
+
+		private Counts addAll(final Counts other)
+		{
+			successes += other.successes;
+			failures += other.failures;
+			return this;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "Counts (successes: " + successes + ", failures: " + failures + ")";
+		}
+	}
+
+	/**
+	 * Accumulates the values until the first failed Result.
+	 */
+	private static final class FirstFailure<TSuccess, TFailure>
+	{
+		private List<TSuccess> values;
+		private TFailure error;
+		private boolean failed;
+
+		private FirstFailure(final int expectedSize)
+		{
+			values = new ArrayList<>(expectedSize);
+		}
+
+		private void add(final Result<TSuccess, TFailure> result)
+		{
+			if (failed)
+			{
+				return;
+			}
+			if (result.isFailure())
+			{
+				failed = true;
+				error = result.getError();
+				values = null;
+			}
+			else
+			{
+				addValue(values, result);
+			}
+		}
+
+		private FirstFailure<TSuccess, TFailure> addAll(final FirstFailure<TSuccess, TFailure> other)
+		{
+			if (failed)
+			{
+				return this;
+			}
+			if (other.failed)
+			{
+				return other;
+			}
+			values.addAll(other.values);
+			return this;
+		}
+
+		private Result<List<TSuccess>, TFailure> toResult()
+		{
+			if (failed)
+			{
+				return new Failure<>(error);
+			}
+			return new Success<>(values);
+		}
+	}
+
+	private ResultCollectors()
+	{
+	}
+
+	/**
+	 * Collects the values of the successful Results.
+	 *
+	 * @return Collector of the values in encounter order.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, List<TSuccess>> successes()
+	{
+		return successes(DEFAULT_SIZE);
+	}
+
+	/**
+	 * Collects the values of the successful Results into a pre-sized list.
+	 *
+	 * @param expectedSize The expected number of values.
+	 * @return Collector of the values in encounter order.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, List<TSuccess>> successes(
+			final int expectedSize)
+	{
+		return Collector.<Result<TSuccess, TFailure>, List<TSuccess>> of(
+				() -> new ArrayList<>(expectedSize),
+				(values, result) ->
+				{
+					if (result.isSuccess())
+					{
+						addValue(values, result);
+					}
+				},
+				(left, right) ->
+				{
+					left.addAll(right);
+					return left;
+				});
+	}
+
+	/**
+	 * Collects the errors of the failed Results.
+	 *
+	 * @return Collector of the errors in encounter order.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, List<TFailure>> failures()
+	{
+		return failures(DEFAULT_SIZE);
+	}
+
+	/**
+	 * Collects the errors of the failed Results into a pre-sized list.
+	 *
+	 * @param expectedSize The expected number of errors.
+	 * @return Collector of the errors in encounter order.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, List<TFailure>> failures(
+			final int expectedSize)
+	{
+		return Collector.<Result<TSuccess, TFailure>, List<TFailure>> of(
+				() -> new ArrayList<>(expectedSize),
+				(errors, result) ->
+				{
+					if (result.isFailure())
+					{
+						errors.add(result.getError());
+					}
+				},
+				(left, right) ->
+				{
+					left.addAll(right);
+					return left;
+				});
+	}
+
+	/**
+	 * Separates the values of the successful Results from the errors of the failed ones.
+	 *
+	 * @return Collector of a Partition.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, Partition<TSuccess, TFailure>> partitioning()
+	{
+		return partitioning(DEFAULT_SIZE);
+	}
+
+	/**
+	 * Separates the values of the successful Results from the errors of the failed ones. The list
+	 * of values is pre-sized, the list of errors grows as needed.
+	 *
+	 * @param expectedSize The expected number of successful Results.
+	 * @return Collector of a Partition.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, Partition<TSuccess, TFailure>> partitioning(
+			final int expectedSize)
+	{
+		return Collector.<Result<TSuccess, TFailure>, Partition<TSuccess, TFailure>> of(
+				() -> new Partition<>(expectedSize),
+				Partition::add,
+				Partition::addAll);
+	}
+
+	/**
+	 * Collects the Results into a single Result: the first failed Result in encounter order or a
+	 * successful Result with the values of all Results.
+	 *
+	 * @return Collector of the combined Result.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, Result<List<TSuccess>, TFailure>> toResult()
+	{
+		return toResult(DEFAULT_SIZE);
+	}
+
+	/**
+	 * Collects the Results into a single Result: the first failed Result in encounter order or a
+	 * successful Result with the values of all Results in a pre-sized list.
+	 *
+	 * @param expectedSize The expected number of values.
+	 * @return Collector of the combined Result.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, Result<List<TSuccess>, TFailure>> toResult(
+			final int expectedSize)
+	{
+		return Collector.<Result<TSuccess, TFailure>, FirstFailure<TSuccess, TFailure>, Result<List<TSuccess>, TFailure>> of(
+				() -> new FirstFailure<>(expectedSize),
+				FirstFailure::add,
+				FirstFailure::addAll,
+				FirstFailure::toResult);
+	}
+
+	/**
+	 * Counts the successful and failed Results.
+	 *
+	 * @return Collector of the Counts.
+	 */
+	public static <TSuccess, TFailure> Collector<Result<TSuccess, TFailure>, ?, Counts> counting()
+	{
+		return Collector.<Result<TSuccess, TFailure>, Counts> of(
+				Counts::new,
+				Counts::add,
+				Counts::addAll,
+				Collector.Characteristics.UNORDERED);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <TSuccess> void addValue(final List<TSuccess> values, final Result<TSuccess, ?> result)
+	{
+		final TSuccess value = (TSuccess) Stages.rawValueOf(result);
+		if (value != null)
+		{
+			values.add(value);
+		}
+	}
+}
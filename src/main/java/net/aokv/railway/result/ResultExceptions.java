@@ -0,0 +1,65 @@
+package net.aokv.railway.result;
+
+/**
+ * Creates the exceptions thrown when a value or an error is requested from a Result that does not
+ * have one. By default, they capture a stack trace like any other exception. In stackless mode,
+ * they are created without a stack trace, and exceptions without a payload are preallocated, so
+ * code that uses them for control flow does not pay for filling in the stack trace. Stackless mode
+ * can be enabled with the system property <code>net.aokv.railway.result.stacklessExceptions</code>
+ * or at runtime.
+ */
+public final class ResultExceptions
+{
+	/**
+	 * Name of the system property that enables stackless mode at startup.
+	 */
+	public static final String STACKLESS_PROPERTY = "net.aokv.railway.result.stacklessExceptions";
+
+	private static final EmptyResultHasNoValueException EMPTY_RESULT_HAS_NO_VALUE =
+			new EmptyResultHasNoValueException(false);
+	private static final SuccessfulResultHasNoErrorException SUCCESSFUL_RESULT_HAS_NO_ERROR =
+			new SuccessfulResultHasNoErrorException(false);
+
+	private static volatile boolean stackless = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+	private ResultExceptions()
+	{
+	}
+
+	/**
+	 * Enables or disables stackless mode.
+	 *
+	 * @param enabled True, if the exceptions should be created without stack traces.
+	 */
+	public static void setStackless(final boolean enabled)
+	{
+		stackless = enabled;
+	}
+
+	/**
+	 * Checks whether stackless mode is enabled.
+	 *
+	 * @return True, if the exceptions are created without stack traces.
+	 */
+	public static boolean isStackless()
+	{
+		return stackless;
+	}
+
+	static EmptyResultHasNoValueException emptyResultHasNoValue()
+	{
+		return stackless ? EMPTY_RESULT_HAS_NO_VALUE : new EmptyResultHasNoValueException();
+	}
+
+	static SuccessfulResultHasNoErrorException successfulResultHasNoError()
+	{
+		return stackless ? SUCCESSFUL_RESULT_HAS_NO_ERROR : new SuccessfulResultHasNoErrorException();
+	}
+
+	static FailedResultHasNoValueException failedResultHasNoValue(final Object error)
+	{
+		return stackless
+				? new FailedResultHasNoValueException(error, false)
+				: new FailedResultHasNoValueException(error);
+	}
+}
@@ -0,0 +1,183 @@
+package net.aokv.railway.result;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Applies railway functions to inputs that are read one at a time from an Iterator or a
+ * Spliterator. Nothing is materialized, so the memory needed does not depend on the number of
+ * inputs.
+ */
+public final class ResultStreams
+{
+	private ResultStreams()
+	{
+	}
+
+	/**
+	 * Creates a lazy, sequential stream of the Results of the given function. Inputs are only read
+	 * when the stream is consumed.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @return Stream of the Results in the order of the inputs.
+	 */
+	public static <T, TSuccess, TFailure> Stream<Result<TSuccess, TFailure>> stream(
+			final Iterator<T> inputs, final Function<? super T, Result<TSuccess, TFailure>> function)
+	{
+		return stream(Spliterators.spliteratorUnknownSize(inputs, Spliterator.ORDERED), function);
+	}
+
+	/**
+	 * Creates a lazy, sequential stream of the Results of the given function. Inputs are only read
+	 * when the stream is consumed.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @return Stream of the Results in the order of the inputs.
+	 */
+	public static <T, TSuccess, TFailure> Stream<Result<TSuccess, TFailure>> stream(
+			final Spliterator<T> inputs, final Function<? super T, Result<TSuccess, TFailure>> function)
+	{
+		Result.assertParameterNotNull(function, "Function");
+		return StreamSupport.stream(inputs, false).map(function);
+	}
+
+	/**
+	 * Applies the given function to all inputs and folds the values of the successful Results.
+	 * Stops reading inputs at the first failed Result.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @param identity The initial value of the fold.
+	 * @param accumulator Function that folds a value into the current value of the fold.
+	 * @return The first failed Result or a Result with the folded value.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, TSuccess, TFailure, R> Result<R, TFailure> reduce(final Iterator<T> inputs,
+			final Function<? super T, Result<TSuccess, TFailure>> function, final R identity,
+			final BiFunction<R, ? super TSuccess, R> accumulator)
+	{
+		R folded = identity;
+		while (inputs.hasNext())
+		{
+			final Result<TSuccess, TFailure> result = function.apply(inputs.next());
+			if (result.isFailure())
+			{
+				return (Result<R, TFailure>) (Result<?, TFailure>) result;
+			}
+			folded = accumulator.apply(folded, (TSuccess) Stages.rawValueOf(result));
+		}
+		return new Success<>(folded);
+	}
+
+	/**
+	 * Applies the given function to all inputs and folds the values of the successful Results.
+	 * Stops reading inputs at the first failed Result.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @param identity The initial value of the fold.
+	 * @param accumulator Function that folds a value into the current value of the fold.
+	 * @return The first failed Result or a Result with the folded value.
+	 */
+	public static <T, TSuccess, TFailure, R> Result<R, TFailure> reduce(final Spliterator<T> inputs,
+			final Function<? super T, Result<TSuccess, TFailure>> function, final R identity,
+			final BiFunction<R, ? super TSuccess, R> accumulator)
+	{
+		return reduce(Spliterators.iterator(inputs), function, identity, accumulator);
+	}
+
+	/**
+	 * Applies the given function to all inputs and counts the successful Results. Stops reading
+	 * inputs at the first failed Result.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @return The first failed Result or a Result with the number of inputs.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, TFailure> Result<Long, TFailure> validate(final Iterator<T> inputs,
+			final Function<? super T, ? extends Result<?, TFailure>> function)
+	{
+		long count = 0;
+		while (inputs.hasNext())
+		{
+			final Result<?, TFailure> result = function.apply(inputs.next());
+			if (result.isFailure())
+			{
+				return (Result<Long, TFailure>) result;
+			}
+			count++;
+		}
+		return new Success<>(count);
+	}
+
+	/**
+	 * Applies the given function to all inputs and counts the successful Results. Stops reading
+	 * inputs at the first failed Result.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @return The first failed Result or a Result with the number of inputs.
+	 */
+	public static <T, TFailure> Result<Long, TFailure> validate(final Spliterator<T> inputs,
+			final Function<? super T, ? extends Result<?, TFailure>> function)
+	{
+		return validate(Spliterators.iterator(inputs), function);
+	}
+
+	/**
+	 * Applies the given function to all inputs in a parallel stream and collects the values of the
+	 * successful Results. Once a failed Result has been found, all splits stop evaluating inputs
+	 * after it. Inputs before it are still evaluated, so the first failure in encounter order is
+	 * returned. Only inputs with exact sizes for all splits, like arrays and array lists, are
+	 * evaluated in parallel.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @param collector The collector for the values.
+	 * @return The first failed Result or a Result with the collected values.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, TSuccess, TFailure, R> Result<R, TFailure> collectParallel(final Spliterator<T> inputs,
+			final Function<? super T, Result<TSuccess, TFailure>> function,
+			final Collector<? super TSuccess, ?, R> collector)
+	{
+		Result.assertParameterNotNull(inputs, "Inputs");
+		Result.assertParameterNotNull(function, "Function");
+		Result.assertParameterNotNull(collector, "Collector");
+		final FailFastSpliterator<T, TSuccess, TFailure> values = new FailFastSpliterator<>(inputs, function);
+		final R collected = StreamSupport.stream(values, true).collect(collector);
+		final Result<?, TFailure> failure = values.getFailure();
+		if (failure != null)
+		{
+			return (Result<R, TFailure>) failure;
+		}
+		return new Success<>(collected);
+	}
+
+	/**
+	 * Applies the given function to all inputs in a parallel stream and counts the successful
+	 * Results. Once a failed Result has been found, all splits stop evaluating inputs after it.
+	 *
+	 * @param inputs The inputs.
+	 * @param function The function to apply to each input.
+	 * @return The first failed Result or a Result with the number of inputs.
+	 * @see #collectParallel(Spliterator, Function, Collector)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, TFailure> Result<Long, TFailure> validateParallel(final Spliterator<T> inputs,
+			final Function<? super T, ? extends Result<?, TFailure>> function)
+	{
+		return collectParallel(inputs, (Function<? super T, Result<Object, TFailure>>) function,
+				Collectors.counting());
+	}
+}
@@ -0,0 +1,58 @@
+package net.aokv.railway.result;
+
+import java.util.function.Predicate;
+
+/**
+ * Helpers for code that passes on the plain values of Results instead of the Results themselves,
+ * like a Pipeline or the stream collectors. An empty Result is represented by null.
+ */
+final class Stages
+{
+	private Stages()
+	{
+	}
+
+	/**
+	 * Returns the value of a successful Result or null, if it does not have a value.
+	 */
+	static Object rawValueOf(final Result<?, ?> result)
+	{
+		if (result instanceof Success)
+		{
+			return ((Success<?, ?>) result).getValueOrNull();
+		}
+		return result.getValue();
+	}
+
+	/**
+	 * Returns the given value or throws, if the Result it came from is empty.
+	 */
+	static Object requireValue(final Object value)
+	{
+		if (value == null)
+		{
+			throw ResultExceptions.emptyResultHasNoValue();
+		}
+		return value;
+	}
+
+	/**
+	 * Tests the value like <code>Result.ensure</code>: an exception of the predicate fails it.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static boolean test(final Predicate predicate, final Object value)
+	{
+		try
+		{
+			return predicate.test(value);
+		}
+		catch (final EmptyResultHasNoValueException exception)
+		{
+			throw exception;
+		}
+		catch (final Exception exception)
+		{
+			return false;
+		}
+	}
+}
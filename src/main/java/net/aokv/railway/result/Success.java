@@ -1,18 +1,37 @@
 package net.aokv.railway.result;
 
+import java.io.IOException;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import net.aokv.railway.text.Renderable;
 
 public class Success<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 {
-	private final Optional<TSuccess> value;
+	private static final Success<?, ?> WITHOUT_VALUE = new Success<>(null);
+
+	private final TSuccess value;
 
 	public Success(final TSuccess value)
 	{
-		this.value = Optional.ofNullable(value);
+		this.value = value;
+	}
+
+	/**
+	 * Returns the shared successful Result without a value.
+	 *
+	 * @return Successful Result without a value.
+	 */
+	@SuppressWarnings("unchecked")
+	static <TSuccess, TFailure> Success<TSuccess, TFailure> empty()
+	{
+		return (Success<TSuccess, TFailure>) WITHOUT_VALUE;
 	}
 
 	@Override
@@ -24,32 +43,46 @@ public class Success<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 	@Override
 	public TSuccess getValue()
 	{
-		if (value.isPresent())
+		if (value != null)
 		{
-			return value.get();
+			return value;
 		}
-		throw new EmptyResultHasNoValueException();
+		throw ResultExceptions.emptyResultHasNoValue();
+	}
+
+	/**
+	 * Returns the value without checking for its presence.
+	 *
+	 * @return The value or null, if the Result does not have a value.
+	 */
+	TSuccess getValueOrNull()
+	{
+		return value;
 	}
 
 	@Override
 	public TFailure getError()
 	{
-		throw new SuccessfulResultHasNoErrorException();
+		throw ResultExceptions.successfulResultHasNoError();
 	}
 
 	@Override
 	public String toString()
 	{
-		final StringBuilder result = new StringBuilder("Result (");
-		result.append("Success");
-		if (value.isPresent())
+		return appendTo(new StringBuilder()).toString();
+	}
+
+	@Override
+	public void render(final Appendable appendable) throws IOException
+	{
+		appendable.append("Result (Success");
+		if (value != null)
 		{
-			result.append(" with value <");
-			result.append(getValue());
-			result.append('>');
+			appendable.append(" with value <");
+			Renderable.append(appendable, value);
+			appendable.append('>');
 		}
-		result.append(')');
-		return result.toString();
+		appendable.append(')');
 	}
 
 	@Override
@@ -74,7 +107,7 @@ public class Success<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 	public <T> Result<T, TFailure> onSuccess(
 			final Supplier<T> function, final Class<T> clazz)
 	{
-		return onSuccess(() -> new Success<>(function.get()));
+		return new Success<>(function.get());
 	}
 
 	@Override
@@ -115,7 +148,42 @@ public class Success<TSuccess, TFailure> extends Result<TSuccess, TFailure>
 	@Override
 	public <T> Result<T, TFailure> map(final Function<TSuccess, T> function)
 	{
-		return flatMap(function.andThen(value -> new Success<T, TFailure>(value)));
+		return new Success<>(function.apply(getValue()));
+	}
+
+	@Override
+	public <T> Result<T, TFailure> attemptMap(
+			final CheckedFunction<TSuccess, T> function, final Function<? super Exception, TFailure> mapper)
+	{
+		final TSuccess input = getValue();
+		final T mapped;
+		try
+		{
+			mapped = function.apply(input);
+		}
+		catch (final Exception exception)
+		{
+			return new Failure<>(mapException(mapper, exception));
+		}
+		return withValue(mapped);
+	}
+
+	@Override
+	public IntResult<TFailure> mapToInt(final ToIntFunction<TSuccess> function)
+	{
+		return IntResult.withValue(function.applyAsInt(getValue()));
+	}
+
+	@Override
+	public LongResult<TFailure> mapToLong(final ToLongFunction<TSuccess> function)
+	{
+		return LongResult.withValue(function.applyAsLong(getValue()));
+	}
+
+	@Override
+	public DoubleResult<TFailure> mapToDouble(final ToDoubleFunction<TSuccess> function)
+	{
+		return DoubleResult.withValue(function.applyAsDouble(getValue()));
 	}
 
 	@Override
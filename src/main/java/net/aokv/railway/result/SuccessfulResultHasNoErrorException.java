@@ -3,4 +3,14 @@ package net.aokv.railway.result;
 public class SuccessfulResultHasNoErrorException extends RuntimeException
 {
 	private static final long serialVersionUID = -1025829845191641992L;
+
+	public SuccessfulResultHasNoErrorException()
+	{
+		super();
+	}
+
+	SuccessfulResultHasNoErrorException(final boolean writableStackTrace)
+	{
+		super(null, null, writableStackTrace, writableStackTrace);
+	}
 }
@@ -0,0 +1,94 @@
+package net.aokv.railway.text;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * An object that can write its string representation into a buffer provided by the caller. The
+ * written text is the same as the result of <code>toString()</code>. Only {@link #render} has to
+ * be implemented, it writes the text piece by piece, so no intermediate strings are created for
+ * it. Values that are Renderable themselves are rendered the same way.
+ */
+public interface Renderable
+{
+	/**
+	 * Writes the string representation to the given Appendable.
+	 *
+	 * @param appendable The Appendable to write to.
+	 * @throws IOException If the Appendable cannot be written to.
+	 */
+	void render(Appendable appendable) throws IOException;
+
+	/**
+	 * Appends the string representation to the given StringBuilder.
+	 *
+	 * @param builder The StringBuilder to append to.
+	 * @return The given StringBuilder.
+	 */
+	default StringBuilder appendTo(final StringBuilder builder)
+	{
+		try
+		{
+			render(builder);
+		}
+		catch (final IOException e)
+		{
+			// A StringBuilder does not throw IOExceptions.
+			throw new UncheckedIOException(e);
+		}
+		return builder;
+	}
+
+	/**
+	 * Appends the string representation to the given Appendable.
+	 *
+	 * @param appendable The Appendable to append to, e.g. a Writer.
+	 * @return The given Appendable.
+	 * @throws IOException If the Appendable cannot be written to.
+	 */
+	default <A extends Appendable> A appendTo(final A appendable) throws IOException
+	{
+		render(appendable);
+		return appendable;
+	}
+
+	/**
+	 * Appends the given object to the given Appendable, without creating a string for it if it is
+	 * Renderable.
+	 *
+	 * @param appendable The Appendable to append to.
+	 * @param object The object, may be null.
+	 * @throws IOException If the Appendable cannot be written to.
+	 */
+	static void append(final Appendable appendable, final Object object) throws IOException
+	{
+		if (object instanceof Renderable)
+		{
+			((Renderable) object).render(appendable);
+		}
+		else
+		{
+			appendable.append(String.valueOf(object));
+		}
+	}
+
+	/**
+	 * Appends the given number to the given Appendable, without creating a string for it if it
+	 * is a StringBuilder.
+	 *
+	 * @param appendable The Appendable to append to.
+	 * @param number The number.
+	 * @throws IOException If the Appendable cannot be written to.
+	 */
+	static void append(final Appendable appendable, final int number) throws IOException
+	{
+		if (appendable instanceof StringBuilder)
+		{
+			((StringBuilder) appendable).append(number);
+		}
+		else
+		{
+			appendable.append(Integer.toString(number));
+		}
+	}
+}
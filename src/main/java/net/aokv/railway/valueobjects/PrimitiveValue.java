@@ -0,0 +1,44 @@
+package net.aokv.railway.valueobjects;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a value object that holds a single primitive value. Unlike a <code>ValueObject</code>,
+ * it does not box its value. Is put on an interface with exactly one method without parameters,
+ * which returns the primitive value. An optional <code>static boolean isValid(...)</code> method
+ * of the interface validates the value. The <code>PrimitiveValueProcessor</code> of the processor
+ * jar generates a final class in the same package that implements the interface, if it is on the
+ * processor path of the compilation:
+ *
+ * <pre>
+ * &#64;PrimitiveValue
+ * public interface AgeDefinition
+ * {
+ * 	int value();
+ *
+ * 	static boolean isValid(final int value)
+ * 	{
+ * 		return value &gt;= 0 &amp;&amp; value &lt; 150;
+ * 	}
+ * }
+ *
+ * Result&lt;Age, Message&gt; age = Age.of(42);
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface PrimitiveValue
+{
+	/**
+	 * The name of the generated class. Defaults to the name of the interface without its suffix
+	 * "Definition".
+	 *
+	 * @return The name of the generated class.
+	 */
+	String name() default "";
+}
@@ -2,13 +2,12 @@ package net.aokv.railway.valueobjects;
 
 import java.io.Serializable;
 
-import com.google.common.base.Objects;
-
 public abstract class ValueObject<T extends Object> implements Serializable
 {
 	private static final long serialVersionUID = 1524173187994925966L;
 
 	private final T value;
+	private transient int hash;
 
 	/**
 	 * Creates a new ValueObject from the given value.
@@ -36,10 +35,22 @@ public abstract class ValueObject<T extends Object> implements Serializable
 		return value;
 	}
 
+	/**
+	 * Returns the same hash code as <code>Objects.hashCode(value)</code> of Guava. It is calculated
+	 * on the first call and then cached, so the value has to be immutable.
+	 *
+	 * @return The ValueObject's hash code.
+	 */
 	@Override
 	public int hashCode()
 	{
-		return Objects.hashCode(getValue());
+		int result = hash;
+		if (result == 0)
+		{
+			result = 31 + value.hashCode();
+			hash = result;
+		}
+		return result;
 	}
 
 	@Override
@@ -59,7 +70,11 @@ public abstract class ValueObject<T extends Object> implements Serializable
 			return false;
 		}
 		final ValueObject<T> other = (ValueObject<T>) obj;
-		return Objects.equal(getValue(), other.getValue());
+		if (hash != 0 && other.hash != 0 && hash != other.hash)
+		{
+			return false;
+		}
+		return value.equals(other.value);
 	}
 
 	@Override
@@ -0,0 +1,57 @@
+package net.aokv.railway.valueobjects;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Shares equal ValueObjects of a type, so that only one instance per value is retained and equal
+ * ValueObjects are usually compared by reference. The shared instances are only weakly referenced,
+ * so they are garbage collected once they are no longer used. Thread-safe. Opt-in, e.g. in the
+ * factory method of a ValueObject with few distinct but many repeated values:
+ *
+ * <pre>
+ * private static final ValueObjectInterner&lt;CountryCode&gt; INTERNER = ValueObjectInterner.create();
+ *
+ * public static CountryCode of(final String code)
+ * {
+ * 	return INTERNER.intern(new CountryCode(code));
+ * }
+ * </pre>
+ *
+ * @param <V> The type of the ValueObjects.
+ */
+public final class ValueObjectInterner<V extends ValueObject<?>>
+{
+	private final Interner<V> interner = Interners.newWeakInterner();
+
+	private ValueObjectInterner()
+	{
+	}
+
+	/**
+	 * Creates a new, empty ValueObjectInterner.
+	 *
+	 * @return The new ValueObjectInterner.
+	 */
+	public static <V extends ValueObject<?>> ValueObjectInterner<V> create()
+	{
+		return new ValueObjectInterner<>();
+	}
+
+	/**
+	 * Returns the shared instance that is equal to the given ValueObject. If there is none, the
+	 * given ValueObject becomes the shared instance.
+	 *
+	 * @param valueObject The ValueObject.
+	 * @return The shared instance.
+	 * @throws IllegalArgumentException If valueObject is null.
+	 */
+	public V intern(final V valueObject)
+	{
+		if (valueObject == null)
+		{
+			throw new IllegalArgumentException("ValueObject may not be null.");
+		}
+		return interner.intern(valueObject);
+	}
+}
@@ -0,0 +1,35 @@
+package net.aokv.railway.message;
+
+import java.util.Optional;
+
+/**
+ * Finds the name of the method that created a Message, i.e. the first method on the call stack
+ * outside of Message and its builder. Uses a StackWalker, which only materializes the frames it
+ * walks over.
+ */
+final class CallerSource
+{
+	static final String NO_SOURCE = "No source";
+
+	private static final StackWalker WALKER = StackWalker.getInstance();
+
+	private CallerSource()
+	{
+	}
+
+	static String find()
+	{
+		final Optional<String> source = WALKER.walk(frames -> frames
+				.filter(frame -> !isInternal(frame.getClassName()))
+				.findFirst()
+				.map(StackWalker.StackFrame::getMethodName));
+		return source.orElse(NO_SOURCE);
+	}
+
+	private static boolean isInternal(final String className)
+	{
+		return className.equals(CallerSource.class.getName())
+				|| className.equals(Message.class.getName())
+				|| className.equals(Message.MessageBuilder.class.getName());
+	}
+}
@@ -0,0 +1,138 @@
+package net.aokv.railway.valueobjects;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the classes of interfaces annotated with <code>PrimitiveValue</code>. A generated
+ * class is final, keeps the value in a primitive field and compares and hashes it without boxing.
+ * Its static factory method <code>of</code> returns a failed Result with an error Message instead
+ * of throwing an exception if <code>isValid</code> rejects the value. Ships in the separate
+ * processor jar, so javac only runs it for compilations that put this jar on the processor path.
+ */
+@SupportedAnnotationTypes("net.aokv.railway.valueobjects.PrimitiveValue")
+public final class PrimitiveValueProcessor extends AbstractProcessor
+{
+	private static final String SUFFIX = "Definition";
+	private static final String VALIDATOR = "isValid";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv)
+	{
+		for (final Element element : roundEnv.getElementsAnnotatedWith(PrimitiveValue.class))
+		{
+			if (element.getKind() != ElementKind.INTERFACE)
+			{
+				error(element, "@PrimitiveValue is only allowed on interfaces.");
+				continue;
+			}
+			process((TypeElement) element);
+		}
+		return true;
+	}
+
+	private void process(final TypeElement definition)
+	{
+		final List<ExecutableElement> methods = ElementFilter.methodsIn(definition.getEnclosedElements());
+		final List<ExecutableElement> accessors = methods.stream()
+				.filter(method -> method.getModifiers().contains(Modifier.ABSTRACT))
+				.collect(Collectors.toList());
+		if (accessors.size() != 1
+				|| !accessors.get(0).getParameters().isEmpty()
+				|| !accessors.get(0).getReturnType().getKind().isPrimitive())
+		{
+			error(definition, String.format(
+					"%s needs exactly one method without parameters that returns a primitive value.",
+					definition.getSimpleName()));
+			return;
+		}
+		final ExecutableElement accessor = accessors.get(0);
+		final TypeMirror type = accessor.getReturnType();
+		boolean validated = false;
+		for (final ExecutableElement method : methods)
+		{
+			if (method.getSimpleName().contentEquals(VALIDATOR))
+			{
+				if (!isValidator(method, type))
+				{
+					error(method, String.format("%s has to be static, return boolean and take a %s.",
+							VALIDATOR, type));
+					return;
+				}
+				validated = true;
+			}
+		}
+		final String name = nameOf(definition);
+		if (name.isEmpty())
+		{
+			error(definition, String.format("%s needs a name or the suffix %s.", definition.getSimpleName(), SUFFIX));
+			return;
+		}
+		final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(definition);
+		final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		final String source = new PrimitiveValueSource(packageName, name, definition.getQualifiedName().toString(),
+				accessor.getSimpleName().toString(), type.getKind(), validated).render();
+		try (Writer writer = processingEnv.getFiler()
+				.createSourceFile(packageName.isEmpty() ? name : packageName + "." + name, definition)
+				.openWriter())
+		{
+			writer.write(source);
+		}
+		catch (final IOException e)
+		{
+			error(definition, String.format("%s could not be generated: %s", name, e.getMessage()));
+		}
+	}
+
+	private static boolean isValidator(final ExecutableElement method, final TypeMirror type)
+	{
+		return method.getModifiers().contains(Modifier.STATIC)
+				&& method.getReturnType().getKind() == TypeKind.BOOLEAN
+				&& method.getParameters().size() == 1
+				&& method.getParameters().get(0).asType().getKind() == type.getKind();
+	}
+
+	private static String nameOf(final TypeElement definition)
+	{
+		final PrimitiveValue annotation = definition.getAnnotation(PrimitiveValue.class);
+		if (!annotation.name().isEmpty())
+		{
+			return annotation.name();
+		}
+		final String simpleName = definition.getSimpleName().toString();
+		if (simpleName.endsWith(SUFFIX))
+		{
+			return simpleName.substring(0, simpleName.length() - SUFFIX.length());
+		}
+		return "";
+	}
+
+	private void error(final Element element, final String message)
+	{
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
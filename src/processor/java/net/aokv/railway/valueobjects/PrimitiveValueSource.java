@@ -0,0 +1,147 @@
+package net.aokv.railway.valueobjects;
+
+import java.util.Locale;
+
+import javax.lang.model.type.TypeKind;
+
+/**
+ * The source of a class generated by the <code>PrimitiveValueProcessor</code>. Result and Message
+ * are referenced by their qualified names, so they cannot clash with classes of the package.
+ */
+final class PrimitiveValueSource
+{
+	private final String packageName;
+	private final String name;
+	private final String definition;
+	private final String accessor;
+	private final TypeKind kind;
+	private final boolean validated;
+	private final StringBuilder source = new StringBuilder();
+
+	PrimitiveValueSource(final String packageName, final String name, final String definition,
+			final String accessor, final TypeKind kind, final boolean validated)
+	{
+		this.packageName = packageName;
+		this.name = name;
+		this.definition = definition;
+		this.accessor = accessor;
+		this.kind = kind;
+		this.validated = validated;
+	}
+
+	String render()
+	{
+		final String type = kind.name().toLowerCase(Locale.ROOT);
+		if (!packageName.isEmpty())
+		{
+			line(0, "package " + packageName + ";");
+			line(0, "");
+		}
+		line(0, "/**");
+		line(0, " * Value object of {@link " + definition + "}, holding an unboxed <code>" + type
+				+ "</code>. Immutable.");
+		line(0, " * Generated by the PrimitiveValueProcessor.");
+		line(0, " */");
+		line(0, "public final class " + name + " implements " + definition + ", java.io.Serializable");
+		line(0, "{");
+		line(1, "private static final long serialVersionUID = 1L;");
+		line(0, "");
+		line(1, "private final " + type + " value;");
+		line(0, "");
+		line(1, "private " + name + "(final " + type + " value)");
+		line(1, "{");
+		line(2, "this.value = value;");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Creates a new " + name + " from the given value.");
+		line(1, " *");
+		line(1, " * @param value The value.");
+		line(1, " * @return " + (validated
+				? "Successful Result with the " + name + " or failed Result with an error Message if the value is invalid."
+				: "Successful Result with the " + name + "."));
+		line(1, " */");
+		line(1, "public static net.aokv.railway.result.Result<" + name + ", net.aokv.railway.message.Message> of(final "
+				+ type + " value)");
+		line(1, "{");
+		if (validated)
+		{
+			line(2, "if (!" + definition + ".isValid(value))");
+			line(2, "{");
+			line(3, "return net.aokv.railway.result.Result.withError(net.aokv.railway.message.Message.createError()");
+			line(5, ".withSource(\"" + name + "\")");
+			line(5, ".withText(\"Invalid " + name + ": \" + value + \".\")");
+			line(5, ".build());");
+			line(2, "}");
+		}
+		line(2, "return net.aokv.railway.result.Result.withValue(new " + name + "(value));");
+		line(1, "}");
+		line(0, "");
+		line(1, "@Override");
+		line(1, "public " + type + " " + accessor + "()");
+		line(1, "{");
+		line(2, "return value;");
+		line(1, "}");
+		line(0, "");
+		line(1, "@Override");
+		line(1, "public int hashCode()");
+		line(1, "{");
+		line(2, "return " + wrapper() + ".hashCode(value);");
+		line(1, "}");
+		line(0, "");
+		line(1, "@Override");
+		line(1, "public boolean equals(final Object obj)");
+		line(1, "{");
+		line(2, "if (this == obj)");
+		line(2, "{");
+		line(3, "return true;");
+		line(2, "}");
+		line(2, "if (!(obj instanceof " + name + "))");
+		line(2, "{");
+		line(3, "return false;");
+		line(2, "}");
+		line(2, "return " + equality("((" + name + ") obj).value") + ";");
+		line(1, "}");
+		line(0, "");
+		line(1, "@Override");
+		line(1, "public String toString()");
+		line(1, "{");
+		line(2, "return \"" + name + " (\" + value + \")\";");
+		line(1, "}");
+		line(0, "}");
+		return source.toString();
+	}
+
+	private String wrapper()
+	{
+		switch (kind)
+		{
+			case INT:
+				return "Integer";
+			case CHAR:
+				return "Character";
+			default:
+				final String type = kind.name();
+				return type.charAt(0) + type.substring(1).toLowerCase(Locale.ROOT);
+		}
+	}
+
+	private String equality(final String other)
+	{
+		// Like Float.equals and Double.equals, so that NaN equals itself and 0.0 differs from -0.0.
+		if (kind == TypeKind.FLOAT || kind == TypeKind.DOUBLE)
+		{
+			return wrapper() + ".compare(value, " + other + ") == 0";
+		}
+		return "value == " + other;
+	}
+
+	private void line(final int indentation, final String text)
+	{
+		for (int i = 0; i < indentation; i++)
+		{
+			source.append('\t');
+		}
+		source.append(text).append('\n');
+	}
+}
@@ -0,0 +1,252 @@
+package net.aokv.railway.message;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.result.Result;
+
+public class AsyncMessageSinkShould
+{
+	private final List<Message> received = new ArrayList<>();
+
+	private static Message message(final MessageLevel level, final int index)
+	{
+		return Message.create().withLevel(level).withIndex(index).withSource("Test").build();
+	}
+
+	private static void awaitQuietly(final CountDownLatch latch)
+	{
+		try
+		{
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void passOnMessagesInTheOrderTheyWereAccepted()
+	{
+		final AsyncMessageSink sut = AsyncMessageSink.create(received::add).withCapacity(4).build();
+		for (int i = 0; i < 100; i++)
+		{
+			sut.accept(message(MessageLevel.ERROR, i));
+		}
+		sut.close();
+		assertThat(received.size() + sut.getDropped(), is(100L));
+		for (int i = 1; i < received.size(); i++)
+		{
+			assertThat(received.get(i).getIndex() > received.get(i - 1).getIndex(), is(true));
+		}
+	}
+
+	@Test
+	public void passOnMessagesOfAcceptedLevelsOnly()
+	{
+		final AsyncMessageSink sut = AsyncMessageSink.create(received::add)
+				.withLevels(MessageLevel.WARNING, MessageLevel.ERROR)
+				.build();
+		sut.accept(message(MessageLevel.INFO, 0));
+		sut.accept(message(MessageLevel.WARNING, 1));
+		sut.accept(message(MessageLevel.ERROR, 2));
+		sut.accept(message(null, 3));
+		sut.close();
+		assertThat(received.size(), is(3));
+		assertThat(received.get(0).getIndex(), is(1));
+		assertThat(received.get(1).getIndex(), is(2));
+		assertThat(received.get(2).getIndex(), is(3));
+		assertThat(sut.getDropped(), is(0L));
+	}
+
+	@Test
+	public void beUsableForFailedResults()
+	{
+		final AsyncMessageSink sut = AsyncMessageSink.create(received::add).build();
+		final Message error = Message.withError("The error");
+		Result.<String, Message> withError(error).onFailure(sut);
+		Result.<String, Message> withValue("Value").onFailure(sut);
+		sut.close();
+		assertThat(received.size(), is(1));
+		assertThat(received.get(0), is(error));
+	}
+
+	@Test
+	public void dropAndCountMessagesIfTheBufferIsFull()
+	{
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AsyncMessageSink sut = AsyncMessageSink.create(message ->
+		{
+			started.countDown();
+			awaitQuietly(release);
+			received.add(message);
+		}).withCapacity(2).build();
+		sut.accept(message(MessageLevel.ERROR, 0));
+		awaitQuietly(started);
+		for (int i = 1; i < 6; i++)
+		{
+			sut.accept(message(MessageLevel.ERROR, i));
+		}
+		assertThat(sut.getDropped(), is(3L));
+		release.countDown();
+		sut.close();
+		assertThat(received.size(), is(3));
+		assertThat(received.get(2).getIndex(), is(2));
+	}
+
+	@Test
+	public void waitForAFreeSlotIfTheBufferIsFullAndBlockingIsConfigured() throws InterruptedException
+	{
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AsyncMessageSink sut = AsyncMessageSink.create(message ->
+		{
+			started.countDown();
+			awaitQuietly(release);
+			received.add(message);
+		}).withCapacity(1).withOverflowPolicy(AsyncMessageSink.OverflowPolicy.BLOCK).build();
+		sut.accept(message(MessageLevel.ERROR, 0));
+		awaitQuietly(started);
+		sut.accept(message(MessageLevel.ERROR, 1));
+		sut.accept(message(MessageLevel.ERROR, 2));
+		final Thread producer = new Thread(() -> sut.accept(message(MessageLevel.ERROR, 3)));
+		producer.start();
+		producer.join(50);
+		assertThat(producer.isAlive(), is(true));
+		release.countDown();
+		producer.join();
+		sut.close();
+		assertThat(received.size(), is(4));
+		assertThat(sut.getDropped(), is(0L));
+	}
+
+	@Test
+	public void passOnAllMessagesOfConcurrentProducersIfBlockingIsConfigured() throws InterruptedException
+	{
+		final AsyncMessageSink sut = AsyncMessageSink.create(received::add)
+				.withCapacity(8)
+				.withOverflowPolicy(AsyncMessageSink.OverflowPolicy.BLOCK)
+				.build();
+		final List<Thread> producers = new ArrayList<>();
+		for (int p = 0; p < 4; p++)
+		{
+			producers.add(new Thread(() ->
+			{
+				for (int i = 0; i < 1000; i++)
+				{
+					sut.accept(message(MessageLevel.ERROR, i));
+				}
+			}));
+		}
+		producers.forEach(Thread::start);
+		for (final Thread producer : producers)
+		{
+			producer.join();
+		}
+		sut.close();
+		assertThat(received.size(), is(4000));
+		assertThat(sut.getDropped(), is(0L));
+	}
+
+	@Test
+	public void countExceptionsOfTheTargetAndGoOn()
+	{
+		final AsyncMessageSink sut = AsyncMessageSink.create(message ->
+		{
+			if (message.getIndex() == 0)
+			{
+				throw new IllegalStateException("Disk full");
+			}
+			received.add(message);
+		}).build();
+		sut.accept(message(MessageLevel.ERROR, 0));
+		sut.accept(message(MessageLevel.ERROR, 1));
+		sut.close();
+		assertThat(sut.getFailed(), is(1L));
+		assertThat(received.size(), is(1));
+	}
+
+	@Test
+	public void countLinkageErrorsOfTheTargetAndGoOn()
+	{
+		final AsyncMessageSink sut = AsyncMessageSink.create(message ->
+		{
+			if (message.getIndex() == 0)
+			{
+				throw new NoClassDefFoundError();
+			}
+			received.add(message);
+		}).withOverflowPolicy(AsyncMessageSink.OverflowPolicy.BLOCK).withCapacity(2).build();
+		for (int i = 0; i < 10; i++)
+		{
+			sut.accept(message(MessageLevel.ERROR, i));
+		}
+		sut.close();
+		assertThat(sut.getFailed(), is(1L));
+		assertThat(received.size(), is(9));
+	}
+
+	@Test
+	public void stopOnVirtualMachineErrorsOfTheTargetAndDropInsteadOfBlocking()
+	{
+		final AsyncMessageSink sut = AsyncMessageSink.create(message ->
+		{
+			throw new StackOverflowError();
+		}).withOverflowPolicy(AsyncMessageSink.OverflowPolicy.BLOCK).withCapacity(2).build();
+		for (int i = 0; i < 10; i++)
+		{
+			sut.accept(message(MessageLevel.ERROR, i));
+		}
+		sut.close();
+		assertThat(sut.getFailed(), is(0L));
+		assertThat(sut.getDropped(), is(7L));
+	}
+
+	@Test
+	public void notWaitForItselfIfTheTargetClosesIt()
+	{
+		final AsyncMessageSink[] sut = new AsyncMessageSink[1];
+		final CountDownLatch closed = new CountDownLatch(1);
+		sut[0] = AsyncMessageSink.create(message ->
+		{
+			sut[0].close();
+			closed.countDown();
+		}).build();
+		sut[0].accept(message(MessageLevel.ERROR, 0));
+		awaitQuietly(closed);
+		assertThat(closed.getCount(), is(0L));
+		sut[0].close();
+		sut[0].accept(message(MessageLevel.ERROR, 1));
+		assertThat(sut[0].getDropped(), is(1L));
+	}
+
+	@Test
+	public void dropMessagesAfterItIsClosed()
+	{
+		final AsyncMessageSink sut = AsyncMessageSink.create(received::add).build();
+		sut.close();
+		sut.accept(message(MessageLevel.ERROR, 0));
+		assertThat(sut.getDropped(), is(1L));
+		assertThat(received.size(), is(0));
+	}
+
+	@Test
+	public void rejectInvalidArguments()
+	{
+		assertThrows(IllegalArgumentException.class, () -> AsyncMessageSink.create(null));
+		assertThrows(IllegalArgumentException.class,
+				() -> AsyncMessageSink.create(received::add).withCapacity(0));
+		assertThrows(IllegalArgumentException.class,
+				() -> AsyncMessageSink.create(received::add).withOverflowPolicy(null));
+	}
+}
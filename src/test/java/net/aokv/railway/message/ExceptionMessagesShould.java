@@ -0,0 +1,81 @@
+package net.aokv.railway.message;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.result.Result;
+
+public class ExceptionMessagesShould
+{
+	@SuppressWarnings("serial")
+	private static class WatchedException extends SQLException
+	{
+		private boolean stackTraceUsed;
+
+		WatchedException(final String message)
+		{
+			super(message);
+		}
+
+		@Override
+		public StackTraceElement[] getStackTrace()
+		{
+			stackTraceUsed = true;
+			return super.getStackTrace();
+		}
+
+		@Override
+		public void printStackTrace(final PrintWriter writer)
+		{
+			stackTraceUsed = true;
+			super.printStackTrace(writer);
+		}
+	}
+
+	@Test
+	public void convertExpectedExceptionsWithoutTheirStackTraces()
+	{
+		final WatchedException exception = new WatchedException("Timeout");
+		final Message message = ExceptionMessages.toMessage(SQLException.class).apply(exception);
+		assertThat(message.getLevel(), is(MessageLevel.ERROR));
+		assertThat(message.getText(), is("Timeout"));
+		assertThat(message.getDetails(), is(exception.toString()));
+		assertThat(exception.stackTraceUsed, is(false));
+	}
+
+	@Test
+	public void convertOtherExceptionsWithTheirStackTraces()
+	{
+		final WatchedException exception = new WatchedException("Timeout");
+		final Message message = ExceptionMessages.toMessage(IOException.class).apply(exception);
+		assertThat(message.getDetails(), containsString("\tat "));
+		assertThat(exception.stackTraceUsed, is(true));
+	}
+
+	@Test
+	public void useTheTypeAsTextIfTheExceptionHasNoMessage()
+	{
+		assertThat(ExceptionMessages.toMessage().apply(new SQLTimeoutException()).getText(),
+				is("SQLTimeoutException"));
+	}
+
+	@Test
+	public void convertExceptionsOfCallsIntoFailedResults()
+	{
+		final Function<Exception, Message> toMessage = ExceptionMessages.toMessage(SQLException.class);
+		final Result<String, Message> result = Result.attempt(() ->
+		{
+			throw new SQLTimeoutException("Query timed out");
+		}, toMessage);
+		assertThat(result.getError().getText(), is("Query timed out"));
+	}
+}
@@ -0,0 +1,89 @@
+package net.aokv.railway.message;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.result.Result;
+
+public class MessageCatalogShould
+{
+	private static MessageCatalog catalogWithCodes(final int... codes)
+	{
+		final MessageCatalog.MessageCatalogBuilder builder = MessageCatalog.create();
+		for (final int code : codes)
+		{
+			builder.withMessage(code, MessageLevel.ERROR, "Error " + code);
+		}
+		return builder.build();
+	}
+
+	@Test
+	public void shareItsMessages()
+	{
+		final MessageCatalog catalog = catalogWithCodes(1, 2, 3);
+		final Message message = catalog.get(2);
+		assertThat(message.getCode(), is(2));
+		assertThat(message.getLevel(), is(MessageLevel.ERROR));
+		assertThat(message.getText(), is("Error 2"));
+		assertThat(catalog.get(2), is(sameInstance(message)));
+	}
+
+	@Test
+	public void findMessagesWithDenseCodes()
+	{
+		final int[] codes = new int[300];
+		for (int i = 0; i < codes.length; i++)
+		{
+			codes[i] = 1000 + i * 2;
+		}
+		final MessageCatalog catalog = catalogWithCodes(codes);
+		assertThat(catalog.size(), is(300));
+		for (final int code : codes)
+		{
+			assertThat(catalog.get(code).getCode(), is(code));
+			assertThat(catalog.contains(code + 1), is(false));
+		}
+		assertThat(catalog.contains(999), is(false));
+		assertThat(catalog.contains(Integer.MIN_VALUE), is(false));
+		assertThat(catalog.contains(Integer.MAX_VALUE), is(false));
+	}
+
+	@Test
+	public void findMessagesWithSparseCodes()
+	{
+		final int[] codes = { Integer.MIN_VALUE, -40_401, 0, 404, 40_401, 1 << 20, 1 << 21, Integer.MAX_VALUE };
+		final MessageCatalog catalog = catalogWithCodes(codes);
+		for (final int code : codes)
+		{
+			assertThat(catalog.get(code).getCode(), is(code));
+		}
+		assertThat(catalog.contains(405), is(false));
+		assertThat(catalog.contains(1 << 22), is(false));
+	}
+
+	@Test
+	public void rejectUnknownCodes()
+	{
+		assertThrows(IllegalArgumentException.class, () -> catalogWithCodes(1, 2).get(3));
+		assertThrows(IllegalArgumentException.class, () -> catalogWithCodes().get(0));
+	}
+
+	@Test
+	public void rejectDuplicateCodes()
+	{
+		assertThrows(IllegalArgumentException.class, () -> catalogWithCodes(1, 2, 1));
+		assertThrows(IllegalArgumentException.class, () -> MessageCatalog.create().withMessage(null));
+	}
+
+	@Test
+	public void createFailedResults()
+	{
+		final MessageCatalog catalog = catalogWithCodes(42);
+		final Result<String, Message> result = catalog.failure(42);
+		assertThat(result.getError(), is(sameInstance(catalog.get(42))));
+	}
+}
@@ -0,0 +1,172 @@
+package net.aokv.railway.message;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class MessageCodecShould
+{
+	private static Message message(final int code, final String text)
+	{
+		return Message.create()
+				.withCode(code)
+				.withLevel(MessageLevel.WARNING)
+				.withIndex(7)
+				.withSource("changePassword")
+				.withText(text)
+				.withDetails("Password does not match")
+				.build();
+	}
+
+	@Test
+	public void readTheMessagesItWrote()
+	{
+		final Message[] messages = {
+				message(1, "First"),
+				message(-42, "Sécond – ✓ 😀 \uD800 end"),
+				Message.create().withLevel(null).withCode(Integer.MIN_VALUE).withIndex(Integer.MAX_VALUE)
+						.withSource("").withText(null).withDetails((String) null).build(),
+				Message.create().withSource("Test").withDetails(new IllegalStateException("Broken")).build(),
+				message(1, "First")
+		};
+		final ByteBuffer buffer = ByteBuffer.allocate(65536);
+		final MessageCodec.Encoder encoder = MessageCodec.newEncoder();
+		for (final Message message : messages)
+		{
+			encoder.encode(message, buffer);
+		}
+		buffer.flip();
+		final MessageCodec.Decoder decoder = MessageCodec.newDecoder();
+		for (final Message message : messages)
+		{
+			assertThat(decoder.decode(buffer), is(message));
+		}
+		assertThat(buffer.hasRemaining(), is(false));
+	}
+
+	@Test
+	public void writeRepeatedStringsOnlyOnce()
+	{
+		final MessageCodec.Encoder encoder = MessageCodec.newEncoder();
+		final ByteBuffer buffer = ByteBuffer.allocate(1024);
+		final int first = encoder.encode(message(1, "The text"), buffer).position();
+		final int second = encoder.encode(message(2, "The text"), buffer).position() - first;
+		assertThat(second, is(7));
+	}
+
+	@Test
+	public void beSmallerThanJavaSerialization() throws IOException
+	{
+		final Message message = message(4711, "Invalid password");
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes))
+		{
+			stream.writeObject(message);
+		}
+		final int encoded = MessageCodec.newEncoder().encode(message, ByteBuffer.allocate(1024)).position();
+		assertThat(encoded * 4, is(lessThan(bytes.size())));
+	}
+
+	@Test
+	public void leaveTheBufferUnchangedIfItIsTooSmall()
+	{
+		final MessageCodec.Encoder encoder = MessageCodec.newEncoder();
+		final ByteBuffer small = ByteBuffer.allocate(30);
+		small.put((byte) 99);
+		assertThrows(BufferOverflowException.class, () -> encoder.encode(message(1, "The text"), small));
+		assertThat(small.position(), is(1));
+		final ByteBuffer large = ByteBuffer.allocate(1024);
+		encoder.encode(message(1, "The text"), large);
+		large.flip();
+		assertThat(MessageCodec.newDecoder().decode(large), is(message(1, "The text")));
+	}
+
+	@Test
+	public void readMessagesThatAreSplitAcrossBuffers()
+	{
+		final MessageCodec.Encoder encoder = MessageCodec.newEncoder();
+		final ByteBuffer encoded = ByteBuffer.allocate(1024);
+		encoder.encode(message(1, "First"), encoded);
+		encoder.encode(message(2, "Sécond"), encoded);
+		encoded.flip();
+		for (int split = 0; split < encoded.limit(); split++)
+		{
+			final MessageCodec.Decoder decoder = MessageCodec.newDecoder();
+			final ByteBuffer buffer = ByteBuffer.allocate(1024);
+			buffer.put(encoded.array(), 0, split).flip();
+			int decoded = 0;
+			try
+			{
+				while (buffer.hasRemaining())
+				{
+					assertThat(decoder.decode(buffer).getCode(), is(++decoded));
+				}
+			}
+			catch (final BufferUnderflowException exception)
+			{
+				// Waits for the rest of the Message.
+			}
+			buffer.compact().put(encoded.array(), split, encoded.limit() - split).flip();
+			assertThat(decoder.decode(buffer), is(message(decoded + 1, decoded == 0 ? "First" : "Sécond")));
+			if (decoded == 0)
+			{
+				assertThat(decoder.decode(buffer), is(message(2, "Sécond")));
+			}
+			assertThat(buffer.hasRemaining(), is(false));
+		}
+	}
+
+	@Test
+	public void rejectUnknownVersions()
+	{
+		final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 2, 0, 0, 0, 0, 0, 0 });
+		assertThrows(IllegalArgumentException.class, () -> MessageCodec.newDecoder().decode(buffer));
+	}
+
+	@Test
+	public void rejectUnknownDictionaryEntries()
+	{
+		final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 0, 0, 0, 3, 0, 0 });
+		assertThrows(IllegalArgumentException.class, () -> MessageCodec.newDecoder().decode(buffer));
+	}
+
+	@Test
+	public void rejectMalformedUtf8()
+	{
+		// Characters that exceed the declared string length
+		assertRejected(1, 0xF0);
+		assertRejected(1, 0xC3, 0xA9);
+		// Invalid lead and continuation bytes
+		assertRejected(1, 0x80);
+		assertRejected(1, 0xF8);
+		assertRejected(2, 0xC3, 0x41);
+		// Overlong encodings and code points beyond Unicode
+		assertRejected(2, 0xC0, 0x80);
+		assertRejected(3, 0xE0, 0x80, 0x80);
+		assertRejected(4, 0xF4, 0x90, 0x80, 0x80);
+	}
+
+	private static void assertRejected(final int length, final int... utf8)
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(utf8.length + 8);
+		buffer.put(new byte[] { 1, 0, 0, 0, 1, (byte) length });
+		for (final int b : utf8)
+		{
+			buffer.put((byte) b);
+		}
+		buffer.put(new byte[] { 0, 0 });
+		buffer.flip();
+		assertThrows(IllegalArgumentException.class, () -> MessageCodec.newDecoder().decode(buffer));
+		assertThat(buffer.position(), is(0));
+	}
+}
@@ -4,9 +4,28 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.base.Objects;
+
+import net.aokv.railway.testing.AllocationMeter;
+
 public class MessageShould
 {
 	private Message sut;
@@ -45,6 +64,121 @@ public class MessageShould
 						.build()));
 	}
 
+	@Test
+	public void computeTheSameHashCodeAsBefore()
+	{
+		final Message message = Message.create()
+				.withCode(3)
+				.withLevel(MessageLevel.WARNING)
+				.withIndex(2)
+				.withSource("Source")
+				.withText("Text")
+				.withDetails((String) null)
+				.build();
+		final int expected = Objects.hashCode(3, MessageLevel.WARNING, 2, "Source", "Text", null);
+		assertThat(message.hashCode(), is(expected));
+		assertThat(message.hashCode(), is(expected));
+	}
+
+	@Test
+	public void notBeChangedByItsBuilderAfterItIsBuilt()
+	{
+		final Message.MessageBuilder builder = Message.create()
+				.withSource("Source")
+				.withText("Text");
+		final Message message = builder.build();
+		final int hashCode = message.hashCode();
+		builder.withText("Another text").withCode(2);
+		assertThat(message.getText(), is("Text"));
+		assertThat(message.getCode(), is(1));
+		assertThat(message.hashCode(), is(hashCode));
+		assertThat(builder.build(), is(not(message)));
+	}
+
+	@Test
+	public void beCreatedFromATemplateByManyThreads() throws InterruptedException
+	{
+		final Message.MessageBuilder template = Message.create()
+				.withLevel(MessageLevel.WARNING)
+				.withCode(42)
+				.withSource("Template");
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		final List<Future<Message>> messages = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+		{
+			messages.add(executor.submit(() -> template.build()));
+		}
+		executor.shutdown();
+		for (final Future<Message> message : messages)
+		{
+			assertThat(getQuietly(message), is(template.build()));
+		}
+	}
+
+	private static Message getQuietly(final Future<Message> message)
+	{
+		try
+		{
+			return message.get();
+		}
+		catch (InterruptedException | ExecutionException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	public void createABuilderWithItsValues()
+	{
+		final Exception exception = new Exception("Inner exception");
+		final Message message = Message.create()
+				.withCode(3)
+				.withLevel(MessageLevel.INFO)
+				.withIndex(2)
+				.withSource("Source")
+				.withText("Text")
+				.withDetails(exception)
+				.build();
+		assertThat(message.toBuilder().build(), is(message));
+		final Message other = message.toBuilder().withText("Another text").build();
+		assertThat(other.getText(), is("Another text"));
+		assertThat(other.getSource(), is("Source"));
+		assertThat(other.getDetails(), is(message.getDetails()));
+		assertThat(message.getText(), is("Text"));
+	}
+
+	@Test
+	public void beCreatedFromACopyOfABuilder()
+	{
+		final Message.MessageBuilder template = Message.create().withCode(7).withSource("Source");
+		final Message message = template.copy().withText("Text").build();
+		assertThat(message.getCode(), is(7));
+		assertThat(message.getText(), is("Text"));
+		assertThat(template.build().getText(), is("No text"));
+	}
+
+	@Test
+	public void captureTheSourceForEveryMessageOfATemplate()
+	{
+		final Message.MessageBuilder template = Message.createError();
+		assertThat(template.build().getSource(), is("captureTheSourceForEveryMessageOfATemplate"));
+		assertThat(buildFrom(template).getSource(), is("buildFrom"));
+	}
+
+	private static Message buildFrom(final Message.MessageBuilder template)
+	{
+		return template.build();
+	}
+
+	@Test
+	public void notBeEqualToAMessageWithOtherDetailsButTheSameHashCode()
+	{
+		final Message message = Message.create().withSource("Source").withDetails("Aa").build();
+		final Message other = Message.create().withSource("Source").withDetails("BB").build();
+		assertThat(message.hashCode(), is(other.hashCode()));
+		assertThat(message, is(not(other)));
+	}
+
 	@Test
 	public void beCreatedFromAMessageBuilder()
 	{
@@ -99,4 +233,76 @@ public class MessageShould
 		assertThat(sut.hasCode(1235), is(false));
 	}
 
+
+	@Test
+	public void useTheMethodThatBuildsTheMessageAsDefaultSource()
+	{
+		final Message.MessageBuilder builder = createBuilder();
+		assertThat(builder.build().getSource(), is("useTheMethodThatBuildsTheMessageAsDefaultSource"));
+	}
+
+	private static Message.MessageBuilder createBuilder()
+	{
+		return Message.createError().withText("The text");
+	}
+
+	@Test
+	public void appendItselfInTheSameFormatAsToString() throws IOException
+	{
+		sut = Message.create()
+				.withCode(42)
+				.withLevel(MessageLevel.WARNING)
+				.withIndex(3)
+				.withSource("Test")
+				.withText("The text")
+				.withDetails((String) null)
+				.build();
+		final String expected = String.format("%s (%s, %s, %s): \"%s\" (details: \"%s\")",
+				MessageLevel.WARNING, 42, "Test", 3, "The text", null);
+		assertThat(sut.toString(), is(expected));
+		assertThat(sut.appendTo(new StringBuilder("> ")).toString(), is("> " + expected));
+		assertThat(sut.appendTo(new StringWriter()).toString(), is(expected));
+	}
+
+	@Test
+	public void notCopyTheStackTraceOfTheErrorWhenBuilt()
+	{
+		final Exception exception = new Exception("Outer", new IllegalStateException("Inner"));
+		final double bytes = new AllocationMeter().bytesPerIteration(100_000,
+				() -> Message.create().withSource("Test").withDetails(exception).build());
+		assertThat(bytes, is(lessThan(256.0)));
+	}
+
+	@Test
+	public void renderErrorDetailsOnlyWhenRequested() throws IOException, ClassNotFoundException
+	{
+		final AtomicInteger renderings = new AtomicInteger();
+		final Exception exception = new Exception("Inner exception")
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public StackTraceElement[] getStackTrace()
+			{
+				renderings.incrementAndGet();
+				return super.getStackTrace();
+			}
+		};
+		sut = Message.create().withSource("Test").withDetails(exception).build();
+		assertThat(renderings.get(), is(0));
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes))
+		{
+			stream.writeObject(sut);
+		}
+		assertThat(renderings.get(), is(1));
+		final Message copy;
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			copy = (Message) stream.readObject();
+		}
+		assertThat(copy, is(sut));
+		assertThat(copy.getDetails(), containsString("Inner exception"));
+		assertThat(renderings.get(), is(1));
+	}
 }
@@ -0,0 +1,117 @@
+package net.aokv.railway.message;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+public class ThrowableDetailsShould
+{
+	private static String printStackTrace(final Throwable throwable)
+	{
+		final StringWriter stringWriter = new StringWriter();
+		throwable.printStackTrace(new PrintWriter(stringWriter));
+		return stringWriter.toString();
+	}
+
+	private static Exception nested(final int depth, final Exception cause)
+	{
+		if (depth == 0)
+		{
+			return new IllegalStateException("Depth reached", cause);
+		}
+		return nested(depth - 1, cause);
+	}
+
+	private static long count(final String text, final String part)
+	{
+		return (text.length() - text.replace(part, "").length()) / part.length();
+	}
+
+	@Test
+	public void renderLikePrintStackTraceWithinTheLimits()
+	{
+		final Exception exception = new Exception("Outer", new IllegalArgumentException("Inner"));
+		assertThat(new ThrowableDetails(exception, Integer.MAX_VALUE, Integer.MAX_VALUE).render(),
+				is(printStackTrace(exception)));
+	}
+
+	@Test
+	public void limitTheFramesPerError()
+	{
+		final Exception exception = nested(100, null);
+		final int frames = exception.getStackTrace().length;
+		final String details = new ThrowableDetails(exception, 5, 0).render();
+		assertThat(count(details, "\tat "), is(5L));
+		assertThat(details, containsString("\t... " + (frames - 5) + " more"));
+	}
+
+	@Test
+	public void limitTheCauses()
+	{
+		Exception exception = new Exception("Root");
+		for (int i = 0; i < 20; i++)
+		{
+			exception = new Exception("Level " + i, exception);
+		}
+		final String details = new ThrowableDetails(exception, 1, 3).render();
+		assertThat(count(details, "Caused by: "), is(3L));
+		assertThat(details, containsString("Level 16"));
+		assertThat(details, not(containsString("Level 15")));
+		assertThat(details, containsString("... 17 more causes"));
+	}
+
+	@Test
+	public void renderSuppressedErrorsLikePrintStackTrace()
+	{
+		final Exception exception = new Exception("Outer", new IllegalArgumentException("Inner"));
+		final Exception suppressed = new IllegalStateException("Suppressed", new Exception("Its cause"));
+		suppressed.addSuppressed(new Exception("Nested"));
+		exception.addSuppressed(suppressed);
+		exception.getCause().addSuppressed(new Exception("Of the cause"));
+		assertThat(new ThrowableDetails(exception, Integer.MAX_VALUE, Integer.MAX_VALUE).render(),
+				is(printStackTrace(exception)));
+	}
+
+	@Test
+	public void countTheOmittedSuppressedErrors()
+	{
+		final Exception exception = new Exception("Outer");
+		exception.addSuppressed(new Exception("First"));
+		exception.addSuppressed(new Exception("Second"));
+		final String details = new ThrowableDetails(exception, 1, 0).render();
+		assertThat(details, not(containsString("Suppressed: ")));
+		assertThat(details, containsString("\t... 2 more suppressed"));
+	}
+
+	@Test
+	public void readTheErrorOnlyWhenRendered()
+	{
+		final Exception exception = new Exception("Outer");
+		final ThrowableDetails details = new ThrowableDetails(exception, Integer.MAX_VALUE, Integer.MAX_VALUE);
+		exception.addSuppressed(new Exception("Later suppressed"));
+		assertThat(details.render(), is(printStackTrace(exception)));
+	}
+
+	@Test
+	public void stopAtCircularCauses()
+	{
+		final Exception first = new Exception("First");
+		final Exception second = new Exception("Second", first);
+		first.initCause(second);
+		assertThat(new ThrowableDetails(first, 1, 10).render(), containsString("[CIRCULAR REFERENCE: "));
+	}
+
+	@Test
+	public void rejectInvalidArguments()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new ThrowableDetails(null, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new ThrowableDetails(new Exception(), -1, 1));
+	}
+}
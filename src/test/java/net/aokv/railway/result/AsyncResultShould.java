@@ -0,0 +1,132 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static net.aokv.railway.result.matchers.ResultMatcher.isFailureWithMessage;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+
+public class AsyncResultShould
+{
+	private static final String THE_VALUE = "The value";
+	private static final Message THE_ERROR = Message.withError("The error");
+	private static final Message OTHER_ERROR = Message.withError("Other error");
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void createExecutor()
+	{
+		executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "railway"));
+	}
+
+	@AfterEach
+	public void shutDownExecutor()
+	{
+		executor.shutdownNow();
+	}
+
+	private <TSuccess> Result<TSuccess, Message> await(final AsyncResult<TSuccess, Message> result)
+			throws Exception
+	{
+		return result.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void runAChainOnItsValue() throws Exception
+	{
+		final AsyncResult<Integer, Message> result = AsyncResult
+				.<String, Message> of(Result.withValue(THE_VALUE), executor)
+				.ensure(value -> !value.isEmpty(), THE_ERROR)
+				.map(value -> value.length())
+				.flatMap(length -> CompletableFuture.completedFuture(Result.withValue(length * 2)));
+		assertThat(await(result), hasValue(THE_VALUE.length() * 2));
+	}
+
+	@Test
+	public void shortCircuitIfFailed() throws Exception
+	{
+		final Container c = new Container("");
+		final AsyncResult<Integer, Message> result = AsyncResult
+				.<String, Message> of(Result.withError(THE_ERROR), executor)
+				.onSuccess(value -> c.setString("Success"))
+				.map(value -> value.length())
+				.flatMap(length -> CompletableFuture.completedFuture(Result.withValue(length)))
+				.onSuccess(() -> CompletableFuture.completedFuture(Result.withValue(1)))
+				.onFailure(error -> c.setString(error.getText()));
+		assertThat(await(result), isFailureWithMessage(THE_ERROR));
+		assertThat(c.getString(), is(THE_ERROR.getText()));
+	}
+
+	@Test
+	public void failIfValueDoesNotMatchPredicate() throws Exception
+	{
+		final AsyncResult<String, Message> result = AsyncResult
+				.<String, Message> of(Result.withValue(THE_VALUE), executor)
+				.ensure(String::isEmpty, THE_ERROR);
+		assertThat(await(result), isFailureWithMessage(THE_ERROR));
+	}
+
+	@Test
+	public void notBlockWhileWaitingForTheResult() throws Exception
+	{
+		final CompletableFuture<Result<String, Message>> pending = new CompletableFuture<>();
+		final AsyncResult<Integer, Message> result = AsyncResult.of(pending, executor)
+				.map(value -> value.length());
+		assertThat(result.toCompletionStage().toCompletableFuture().isDone(), is(false));
+		pending.complete(Result.withValue(THE_VALUE));
+		assertThat(await(result), hasValue(THE_VALUE.length()));
+	}
+
+	@Test
+	public void runContinuationsOnTheExecutor() throws Exception
+	{
+		final Container c = new Container("");
+		final AsyncResult<String, Message> result = AsyncResult
+				.<String, Message> of(Result.withValue(THE_VALUE), executor)
+				.onSuccess(value -> c.setString(Thread.currentThread().getName()));
+		await(result);
+		assertThat(c.getString(), startsWith("railway"));
+	}
+
+	@Test
+	public void supplyItsResultAsynchronously() throws Exception
+	{
+		assertThat(await(AsyncResult.supply(() -> Result.withValue(THE_VALUE), executor)),
+				hasValue(THE_VALUE));
+	}
+
+	@Test
+	public void beCombinedWithOtherResults() throws Exception
+	{
+		final AsyncResult<String, Message> first = AsyncResult.of(Result.withValue("First"), executor);
+		final AsyncResult<String, Message> second = AsyncResult.of(Result.withValue("Second"), executor);
+		final AsyncResult<String, Message> failed = AsyncResult.of(Result.withError(THE_ERROR), executor);
+		final AsyncResult<String, Message> otherFailed = AsyncResult.of(Result.withError(OTHER_ERROR),
+				executor);
+		assertThat(await(AsyncResult.combine(first, second)), hasValue("Second"));
+		assertThat(await(AsyncResult.combine(first, failed, otherFailed)), isFailureWithMessage(THE_ERROR));
+		assertThat(await(first.combine(second)).isSuccess(), is(true));
+		assertThat(await(first.combine(failed)).getError(), is(THE_ERROR));
+	}
+
+	@Test
+	public void completeTheCombinationWithTheFirstFailureWithoutWaiting() throws Exception
+	{
+		final AsyncResult<String, Message> pending = AsyncResult.of(new CompletableFuture<>(), executor);
+		final AsyncResult<String, Message> failed = AsyncResult.of(Result.withError(THE_ERROR), executor);
+		assertThat(await(AsyncResult.combine(pending, failed)), isFailureWithMessage(THE_ERROR));
+		assertThat(await(pending.combine(failed)).getError(), is(THE_ERROR));
+	}
+}
@@ -0,0 +1,62 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+
+public class DoubleResultShould
+{
+	private static final Message THE_ERROR = Message.withError("The error");
+
+	private static final DoubleResult<Message> THE_RESULT = DoubleResult.withValue(19.99);
+	private static final DoubleResult<Message> FAILED_RESULT = DoubleResult.withError(THE_ERROR);
+
+	@Test
+	public void runARailwayChainOnItsValue()
+	{
+		final DoubleResult<Message> result = THE_RESULT
+				.ensure(price -> price > 0, THE_ERROR)
+				.map(price -> price * 2)
+				.flatMap(price -> DoubleResult.withValue(price + 0.02));
+		assertThat(result.getValue(), is(40.0));
+		assertThat(result.mapToLong(Math::round).getValue(), is(40L));
+		assertThat(result.boxed(), hasValue(40.0));
+	}
+
+	@Test
+	public void rejectANullErrorForItsCheck()
+	{
+		assertThrows(IllegalArgumentException.class, () -> THE_RESULT.ensure(value -> true, null));
+		assertThrows(IllegalArgumentException.class, () -> FAILED_RESULT.ensure(value -> true, null));
+	}
+
+	@Test
+	public void shortCircuitIfFailed()
+	{
+		assertSame(FAILED_RESULT, FAILED_RESULT
+				.ensure(price -> price > 0, THE_ERROR)
+				.map(price -> price * 2)
+				.flatMap(price -> DoubleResult.withValue(price)));
+		assertThat(FAILED_RESULT.mapToInt(price -> (int) price).getError(), is(THE_ERROR));
+		assertThrows(FailedResultHasNoValueException.class, () -> FAILED_RESULT.getValue());
+	}
+
+	@Test
+	public void failIfValueDoesNotMatchPredicate()
+	{
+		assertThat(THE_RESULT.ensure(Double::isNaN, THE_ERROR).getError(), is(THE_ERROR));
+	}
+
+	@Test
+	public void beCreatedFromAnObjectResult()
+	{
+		assertThat(Result.<String, Message> withValue("1.5").mapToDouble(Double::parseDouble).getValue(),
+				is(1.5));
+	}
+}
@@ -0,0 +1,91 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FailFastSpliteratorShould
+{
+	private static final int SIZE = 100_000;
+	private static final List<Integer> INPUTS = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+
+	private ForkJoinPool pool;
+
+	@BeforeEach
+	public void createPool()
+	{
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterEach
+	public void shutDownPool()
+	{
+		pool.shutdownNow();
+	}
+
+	private <R> Result<R, String> inPool(final Function<Integer, Result<Integer, String>> function,
+			final Collector<Integer, ?, R> collector)
+			throws InterruptedException, ExecutionException
+	{
+		return pool.submit(() -> ResultStreams.collectParallel(INPUTS.spliterator(), function, collector)).get();
+	}
+
+	@Test
+	public void keepTheOrderOfTheInputs() throws Exception
+	{
+		final List<Integer> expected = INPUTS.stream().map(i -> i * 2).collect(Collectors.toList());
+		assertThat(inPool(i -> Result.withValue(i * 2), Collectors.toList()), hasValue(expected));
+	}
+
+	@Test
+	public void returnTheFirstFailureInTheOrderOfTheInputs() throws Exception
+	{
+		for (int run = 0; run < 20; run++)
+		{
+			final Result<List<Integer>, String> result = inPool(
+					i -> i % 1000 == 999 ? Result.withError("Error " + i) : Result.withValue(i), Collectors.toList());
+			assertThat(result.getError(), is("Error 999"));
+		}
+	}
+
+	@Test
+	public void notEvaluateInputsAfterAFailureInAnySplit() throws Exception
+	{
+		final AtomicInteger evaluated = new AtomicInteger();
+		final Result<Long, String> result = inPool(i ->
+		{
+			evaluated.incrementAndGet();
+			return i >= 10 ? Result.withError("Error " + i) : Result.withValue(i);
+		}, Collectors.counting());
+		assertThat(result.getError(), is("Error 10"));
+		assertThat(evaluated.get(), is(lessThan(1000)));
+	}
+
+	@Test
+	public void evaluateSourcesWithoutExactSizesSequentially()
+	{
+		final AtomicInteger evaluated = new AtomicInteger();
+		final Result<Long, String> result = ResultStreams.validateParallel(INPUTS.stream().filter(i -> true)
+				.spliterator(), i ->
+				{
+					evaluated.incrementAndGet();
+					return i == 10 ? Result.withError("Error") : Result.withValue(i);
+				});
+		assertThat(result.getError(), is("Error"));
+		assertThat(evaluated.get(), is(11));
+	}
+}
@@ -5,13 +5,19 @@ import static net.aokv.railway.result.matchers.ResultMatcher.isFailureWithMessag
 import static net.aokv.railway.result.matchers.ResultMatcher.isFailureWithMessageText;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
 import net.aokv.railway.message.Message;
+import net.aokv.railway.testing.AllocationMeter;
 
 public class FailedResultShould
 {
@@ -135,4 +141,52 @@ public class FailedResultShould
 				THE_RESULT.ifValueIsPresent(String.class, THE_ERROR),
 				isFailureWithMessageText(THE_ERROR.getText()));
 	}
+
+	@Test
+	public void propagateItselfInsteadOfCreatingNewFailures()
+	{
+		assertSame(THE_RESULT, THE_RESULT.map(value -> value.length()));
+		assertSame(THE_RESULT, THE_RESULT.flatMap(value -> Result.withValue(value.length())));
+		assertSame(THE_RESULT, THE_RESULT.onSuccess(() -> Result.withValue(1)));
+		assertSame(THE_RESULT, THE_RESULT.onSuccess(() -> 1, Integer.class));
+		assertSame(THE_RESULT, THE_RESULT.ifValueIsPresent(String.class, THE_ERROR));
+	}
+
+	@Test
+	public void notAllocateWhileShortCircuitingAChain()
+	{
+		final double bytes = new AllocationMeter().bytesPerIteration(100_000, () -> THE_RESULT
+				.map(value -> value.length())
+				.ensure(length -> length > 0, THE_ERROR)
+				.flatMap(length -> Result.<Integer, Message> withValue(length + 1))
+				.onSuccess(() -> Result.<String, Message> withValue("Value"))
+				.onSuccess(value -> value.trim())
+				.onSuccess(() -> 1, Integer.class)
+				.map(value -> Optional.of(value))
+				.ifValueIsPresent(Integer.class, THE_ERROR)
+				.map(value -> value * 2));
+		assertThat(bytes, is(lessThan(1.0)));
+	}
+
+	@Test
+	public void notMapItsValueWithAFunctionThatMayThrow()
+	{
+		final Container c = new Container("");
+		assertSame(THE_RESULT, THE_RESULT.attemptMap(value ->
+		{
+			c.setString("called");
+			return value;
+		}, exception -> THE_ERROR));
+		assertThat(c.getString(), is(""));
+	}
+
+	@Test
+	public void appendItselfInTheSameFormatAsToString() throws IOException
+	{
+		final String expected = "Result (Error: " + THE_ERROR + ")";
+		assertThat(THE_RESULT.toString(), is(expected));
+		assertThat(THE_RESULT.appendTo(new StringBuilder()).toString(), is(expected));
+		assertThat(THE_RESULT.appendTo(new StringWriter()).toString(), is(expected));
+		assertThat(Result.withError("Plain").toString(), is("Result (Error: Plain)"));
+	}
 }
@@ -0,0 +1,119 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static net.aokv.railway.result.matchers.ResultMatcher.isFailureWithMessage;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+
+public class IntResultShould
+{
+	private static final Message THE_ERROR = Message.withError("The error");
+	private static final Message OTHER_ERROR = Message.withError("Other error");
+
+	private static final IntResult<Message> THE_RESULT = IntResult.withValue(42);
+	private static final IntResult<Message> FAILED_RESULT = IntResult.withError(THE_ERROR);
+
+	@Test
+	public void notAcceptNullAsError()
+	{
+		assertThrows(IllegalArgumentException.class, () -> IntResult.withError(null));
+	}
+
+	@Test
+	public void returnItsValueIfSuccessful()
+	{
+		assertThat(THE_RESULT.isSuccess(), is(true));
+		assertThat(THE_RESULT.getValue(), is(42));
+		assertThat(THE_RESULT.orElse(0), is(42));
+		assertThrows(SuccessfulResultHasNoErrorException.class, () -> THE_RESULT.getError());
+	}
+
+	@Test
+	public void returnItsErrorIfFailed()
+	{
+		assertThat(FAILED_RESULT.isFailure(), is(true));
+		assertThat(FAILED_RESULT.getError(), is(THE_ERROR));
+		assertThat(FAILED_RESULT.orElse(0), is(0));
+		assertThrows(FailedResultHasNoValueException.class, () -> FAILED_RESULT.getValue());
+	}
+
+	@Test
+	public void mapItsValue()
+	{
+		assertThat(THE_RESULT.map(value -> value + 1).getValue(), is(43));
+		assertSame(FAILED_RESULT, FAILED_RESULT.map(value -> value + 1));
+	}
+
+	@Test
+	public void flatMapAnotherResult()
+	{
+		assertThat(THE_RESULT.flatMap(value -> IntResult.withValue(value * 2)).getValue(), is(84));
+		assertThat(THE_RESULT.flatMap(value -> IntResult.withError(OTHER_ERROR)).getError(),
+				is(OTHER_ERROR));
+		assertSame(FAILED_RESULT, FAILED_RESULT.flatMap(value -> IntResult.withValue(value)));
+	}
+
+	@Test
+	public void checkItsValue()
+	{
+		assertSame(THE_RESULT, THE_RESULT.ensure(value -> value > 0, THE_ERROR));
+		assertThat(THE_RESULT.ensure(value -> value < 0, THE_ERROR).getError(), is(THE_ERROR));
+		assertThat(THE_RESULT.ensure(value ->
+		{
+			throw new ArithmeticException();
+		}, THE_ERROR).getError(), is(THE_ERROR));
+		assertSame(FAILED_RESULT, FAILED_RESULT.ensure(value -> false, OTHER_ERROR));
+	}
+
+	@Test
+	public void rejectANullErrorForItsCheck()
+	{
+		assertThrows(IllegalArgumentException.class, () -> THE_RESULT.ensure(value -> true, null));
+		assertThrows(IllegalArgumentException.class, () -> FAILED_RESULT.ensure(value -> true, null));
+	}
+
+	@Test
+	public void runFunctionsDependingOnItsOutcome()
+	{
+		final Container c = new Container("");
+		THE_RESULT.onSuccess(value -> c.setString("Success " + value))
+				.onFailure(() -> c.setString("Failure"));
+		assertThat(c.getString(), is("Success 42"));
+		FAILED_RESULT.onSuccess(value -> c.setString("Success " + value))
+				.onFailure(error -> c.setString(error.getText()));
+		assertThat(c.getString(), is(THE_ERROR.getText()));
+	}
+
+	@Test
+	public void bridgeToAndFromObjectResults()
+	{
+		assertThat(Result.<String, Message> withValue("The value").mapToInt(String::length).getValue(),
+				is(9));
+		assertThat(Result.<String, Message> withError(THE_ERROR).mapToInt(String::length).getError(),
+				is(THE_ERROR));
+		assertThat(THE_RESULT.mapToObj(Integer::toString), hasValue("42"));
+		assertThat(FAILED_RESULT.mapToObj(Integer::toString), isFailureWithMessage(THE_ERROR));
+		assertThat(THE_RESULT.boxed(), hasValue(42));
+	}
+
+	@Test
+	public void convertToOtherPrimitiveResults()
+	{
+		assertThat(THE_RESULT.mapToLong(value -> value * 10L).getValue(), is(420L));
+		assertThat(THE_RESULT.mapToDouble(value -> value / 4.0).getValue(), is(10.5));
+		assertThat(FAILED_RESULT.mapToLong(value -> value).getError(), is(THE_ERROR));
+	}
+
+	@Test
+	public void beFormattedLikeAResult()
+	{
+		assertThat(THE_RESULT.toString(), is(Result.withValue(42).toString()));
+		assertThat(FAILED_RESULT.toString(), is(Result.withError(THE_ERROR).toString()));
+	}
+}
@@ -0,0 +1,56 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+
+public class LongResultShould
+{
+	private static final Message THE_ERROR = Message.withError("The error");
+
+	private static final LongResult<Message> THE_RESULT = LongResult.withValue(10_000_000_000L);
+	private static final LongResult<Message> FAILED_RESULT = LongResult.withError(THE_ERROR);
+
+	@Test
+	public void runARailwayChainOnItsValue()
+	{
+		final LongResult<Message> result = THE_RESULT
+				.ensure(value -> value > 0, THE_ERROR)
+				.map(value -> value + 1)
+				.flatMap(value -> LongResult.withValue(value * 2));
+		assertThat(result.getValue(), is(20_000_000_002L));
+		assertThat(result.mapToInt(value -> (int) (value % 1000)).getValue(), is(2));
+		assertThat(result.boxed(), hasValue(20_000_000_002L));
+	}
+
+	@Test
+	public void rejectANullErrorForItsCheck()
+	{
+		assertThrows(IllegalArgumentException.class, () -> THE_RESULT.ensure(value -> true, null));
+		assertThrows(IllegalArgumentException.class, () -> FAILED_RESULT.ensure(value -> true, null));
+	}
+
+	@Test
+	public void shortCircuitIfFailed()
+	{
+		assertSame(FAILED_RESULT, FAILED_RESULT
+				.ensure(value -> value > 0, THE_ERROR)
+				.map(value -> value + 1)
+				.flatMap(value -> LongResult.withValue(value * 2)));
+		assertThat(FAILED_RESULT.mapToDouble(value -> value).getError(), is(THE_ERROR));
+		assertThrows(FailedResultHasNoValueException.class, () -> FAILED_RESULT.getValue());
+	}
+
+	@Test
+	public void beCreatedFromAnObjectResult()
+	{
+		assertThat(Result.<String, Message> withValue("123").mapToLong(Long::parseLong).getValue(),
+				is(123L));
+	}
+}
@@ -0,0 +1,137 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static net.aokv.railway.result.matchers.ResultMatcher.isFailureWithMessage;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+
+public class ParallelCombinationShould
+{
+	private static final Message THE_ERROR = Message.withError("The error");
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void createExecutor()
+	{
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	public void shutDownExecutor()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void returnTheLastResultIfAllAreSuccessful()
+	{
+		final Result<String, Message> result = Result.combineParallel(executor,
+				() -> sleepAndReturn(50, Result.withValue("First")),
+				() -> Result.withValue("Last"));
+		assertThat(result, hasValue("Last"));
+	}
+
+	@Test
+	public void returnTheFirstFailureWithoutWaitingForTheOthers() throws InterruptedException
+	{
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch interrupted = new CountDownLatch(1);
+		final long start = System.nanoTime();
+		final Result<String, Message> result = Result.combineParallel(executor,
+				() ->
+				{
+					started.countDown();
+					try
+					{
+						Thread.sleep(10_000);
+					}
+					catch (final InterruptedException exception)
+					{
+						interrupted.countDown();
+					}
+					return Result.withValue("Slow");
+				},
+				() ->
+				{
+					awaitQuietly(started);
+					return Result.withError(THE_ERROR);
+				});
+		assertThat(result, isFailureWithMessage(THE_ERROR));
+		assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5, is(true));
+		assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+	}
+
+	@Test
+	public void rethrowExceptionsOfTheFunctions()
+	{
+		assertThrows(IllegalStateException.class, () -> Result.<String, Message> combineParallel(executor,
+				() -> Result.withValue("Value"),
+				() ->
+				{
+					throw new IllegalStateException("Broken");
+				}));
+	}
+
+	@Test
+	public void runOnTheDefaultExecutor()
+	{
+		assertThat(Result.<String, Message> combineParallel(
+				() -> Result.withValue("First"),
+				() -> Result.withValue("Last")), hasValue("Last"));
+	}
+
+	@Test
+	public void requireAtLeastOneFunction()
+	{
+		assertThrows(IllegalArgumentException.class, () -> Result.<String, Message> combineParallel(executor));
+	}
+
+	@Test
+	public void rejectFunctionsThatReturnNull()
+	{
+		assertThrows(IllegalArgumentException.class, () -> Result.<String, Message> combineParallel(executor,
+				() -> Result.withValue("Value"),
+				() -> null));
+		assertThrows(IllegalArgumentException.class, () -> Result.<String, Message> combineParallel(executor,
+				() -> Result.withValue("Value"),
+				null));
+	}
+
+	private static <T> T sleepAndReturn(final long millis, final T value)
+	{
+		try
+		{
+			Thread.sleep(millis);
+		}
+		catch (final InterruptedException exception)
+		{
+			Thread.currentThread().interrupt();
+		}
+		return value;
+	}
+
+	private static void awaitQuietly(final CountDownLatch latch)
+	{
+		try
+		{
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (final InterruptedException exception)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelTraversalShould
+{
+	private static final int SIZE = 100_000;
+	private static final List<Integer> INPUTS = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+
+	private ForkJoinPool pool;
+
+	@BeforeEach
+	public void createPool()
+	{
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterEach
+	public void shutDownPool()
+	{
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void keepTheOrderOfTheInputs()
+	{
+		final List<Integer> expected = INPUTS.stream().map(i -> i * 2).collect(Collectors.toList());
+		assertThat(Result.traverseParallel(INPUTS, i -> Result.<Integer, String> withValue(i * 2), pool),
+				hasValue(expected));
+		assertThat(Result.traverseParallel(INPUTS, i -> Result.<Integer, String> withValue(i * 2)),
+				hasValue(expected));
+	}
+
+	@Test
+	public void returnTheFirstFailureInTheOrderOfTheInputs()
+	{
+		for (int run = 0; run < 20; run++)
+		{
+			final Result<List<Integer>, String> result = Result.traverseParallel(INPUTS,
+					i -> i % 1000 == 999 ? Result.withError("Error " + i) : Result.withValue(i), pool);
+			assertThat(result.getError(), is("Error 999"));
+		}
+	}
+
+	@Test
+	public void notEvaluateInputsAfterAFailure()
+	{
+		final AtomicInteger evaluated = new AtomicInteger();
+		final Result<List<Integer>, String> result = Result.traverseParallel(INPUTS, i ->
+		{
+			evaluated.incrementAndGet();
+			return i == 10 ? Result.withError("Error") : Result.withValue(i);
+		}, pool);
+		assertThat(result.getError(), is("Error"));
+		assertThat(evaluated.get(), is(lessThan(SIZE / 2)));
+	}
+
+	@Test
+	public void traverseEmptyAndSingleElementLists()
+	{
+		assertThat(Result.traverseParallel(INPUTS.subList(0, 0), i -> Result.<Integer, String> withValue(i), pool)
+				.getValue().isEmpty(), is(true));
+		assertThat(Result.traverseParallel(INPUTS.subList(0, 1), i -> Result.<Integer, String> withValue(i), pool)
+				.getValue(), is(INPUTS.subList(0, 1)));
+	}
+
+	@Test
+	public void returnAnUnmodifiableListLikeTheSequentialTraversal()
+	{
+		final List<Integer> values = Result.traverseParallel(INPUTS, i -> Result.<Integer, String> withValue(i), pool)
+				.getValue();
+		assertThat(values.getClass(), is(equalTo(Result.traverse(INPUTS, i -> Result.<Integer, String> withValue(i))
+				.getValue().getClass())));
+		assertThrows(UnsupportedOperationException.class, () -> values.add(-1));
+	}
+}
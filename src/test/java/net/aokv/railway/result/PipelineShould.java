@@ -0,0 +1,96 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static net.aokv.railway.result.matchers.ResultMatcher.isFailureWithMessage;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+
+public class PipelineShould
+{
+	private static final Message TOO_SHORT = Message.withError("Too short");
+	private static final Message TOO_LONG = Message.withError("Too long");
+
+	private static final Pipeline<String, Integer, Message> LENGTH = Pipeline.<String, Message> start()
+			.map(String::trim)
+			.ensure(value -> value.length() > 2, TOO_SHORT)
+			.map(String::length)
+			.flatMap(length -> length < 10 ? Result.withValue(length) : Result.withError(TOO_LONG));
+
+	@Test
+	public void beAppliedToManyInputs()
+	{
+		assertThat(LENGTH.apply(" abc "), hasValue(3));
+		assertThat(LENGTH.apply("abcdef"), hasValue(6));
+		assertThat(LENGTH.apply("ab"), isFailureWithMessage(TOO_SHORT));
+		assertThat(LENGTH.apply("abcdefghijk"), isFailureWithMessage(TOO_LONG));
+	}
+
+	@Test
+	public void beAppliedToResults()
+	{
+		assertThat(LENGTH.applyTo(Result.withValue("abcd")), hasValue(4));
+		final Result<String, Message> failed = Result.withError(TOO_LONG);
+		assertSame(failed, LENGTH.applyTo(failed));
+	}
+
+	@Test
+	public void beUsableAsAFunction()
+	{
+		assertThat(Result.<String, Message> withValue("abcde").flatMap(LENGTH), hasValue(5));
+	}
+
+	@Test
+	public void notBeChangedByExtendingIt()
+	{
+		final Pipeline<String, Integer, Message> doubled = LENGTH.map(length -> length * 2);
+		assertThat(doubled.apply("abc"), hasValue(6));
+		assertThat(LENGTH.apply("abc"), hasValue(3));
+	}
+
+	@Test
+	public void runFailureFunctionsOnlyOnFailure()
+	{
+		final Container c = new Container("");
+		final Pipeline<String, Integer, Message> pipeline = LENGTH
+				.onSuccess(length -> c.setString("Success"))
+				.onFailure(error -> c.setString(error.getText()));
+		pipeline.apply("a");
+		assertThat(c.getString(), is(TOO_SHORT.getText()));
+		pipeline.apply("abc");
+		assertThat(c.getString(), is("Success"));
+	}
+
+	@Test
+	public void returnItsInputWithoutOperations()
+	{
+		assertThat(Pipeline.<String, Message> start().apply("Input"), hasValue("Input"));
+	}
+
+	@Test
+	public void rejectMissingFunctionsWhenItIsDefined()
+	{
+		assertThrows(IllegalArgumentException.class, () -> LENGTH.map(null));
+		assertThrows(IllegalArgumentException.class, () -> LENGTH.ensure(length -> true, null));
+		assertThrows(IllegalArgumentException.class, () -> LENGTH.apply(null));
+	}
+
+	@Test
+	public void beSharedByManyThreads()
+	{
+		final List<Result<Integer, Message>> results = IntStream.range(0, 10_000)
+				.parallel()
+				.mapToObj(i -> LENGTH.apply("abc" + (i % 7)))
+				.collect(Collectors.toList());
+		results.forEach(result -> assertThat(result, hasValue(4)));
+	}
+}
@@ -0,0 +1,136 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static net.aokv.railway.result.matchers.ResultMatcher.isFailure;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+import net.aokv.railway.testing.AllocationMeter;
+
+public class ResultCollectorsShould
+{
+	private static final int SIZE = 100_000;
+
+	private static Stream<Result<Integer, String>> results(final boolean parallel)
+	{
+		final IntStream numbers = IntStream.range(0, SIZE);
+		return (parallel ? numbers.parallel() : numbers)
+				.mapToObj(i -> i % 3 == 0 ? Result.withError("Error " + i) : Result.withValue(i));
+	}
+
+	@Test
+	public void collectTheValuesOfSuccessfulResults()
+	{
+		final List<Integer> expected = IntStream.range(0, SIZE).filter(i -> i % 3 != 0).boxed()
+				.collect(Collectors.toList());
+		assertThat(results(false).collect(ResultCollectors.successes(SIZE)), is(expected));
+		assertThat(results(true).collect(ResultCollectors.successes()), is(expected));
+	}
+
+	@Test
+	public void preSizeTheListEveryTimeTheCollectorIsUsed()
+	{
+		final Collector<Result<Integer, String>, ?, List<Integer>> collector = ResultCollectors.successes(1000);
+		final double bytes = new AllocationMeter().bytesPerIteration(100, () -> collector.supplier().get());
+		assertThat(bytes, is(greaterThan(1000 * 4.0)));
+	}
+
+	@Test
+	public void collectTheErrorsOfFailedResults()
+	{
+		final List<String> expected = IntStream.range(0, SIZE).filter(i -> i % 3 == 0)
+				.mapToObj(i -> "Error " + i).collect(Collectors.toList());
+		assertThat(results(false).collect(ResultCollectors.failures(SIZE)), is(expected));
+		assertThat(results(true).collect(ResultCollectors.failures()), is(expected));
+	}
+
+	@Test
+	public void partitionResultsIntoValuesAndErrors()
+	{
+		final ResultCollectors.Partition<Integer, String> sequential = results(false)
+				.collect(ResultCollectors.partitioning(SIZE));
+		final ResultCollectors.Partition<Integer, String> parallel = results(true)
+				.collect(ResultCollectors.partitioning());
+		assertThat(parallel.getSuccesses(), is(sequential.getSuccesses()));
+		assertThat(parallel.getFailures(), is(sequential.getFailures()));
+		assertThat(parallel.getSuccesses().size() + parallel.getFailures().size(), is(SIZE));
+	}
+
+	@Test
+	public void combineAllSuccessfulResultsIntoOne()
+	{
+		final Result<List<Integer>, String> result = IntStream.range(0, SIZE).parallel()
+				.mapToObj(i -> Result.<Integer, String> withValue(i))
+				.collect(ResultCollectors.toResult(SIZE));
+		assertThat(result.getValue().size(), is(SIZE));
+		assertThat(result.getValue().get(SIZE - 1), is(SIZE - 1));
+	}
+
+	@Test
+	public void returnTheFirstFailureInEncounterOrder()
+	{
+		final Result<List<Integer>, String> sequential = results(false).skip(1)
+				.collect(ResultCollectors.toResult());
+		final Result<List<Integer>, String> parallel = results(true).skip(1)
+				.collect(ResultCollectors.toResult());
+		assertThat(sequential, isFailure());
+		assertThat(sequential.getError(), is("Error 3"));
+		assertThat(parallel.getError(), is("Error 3"));
+	}
+
+	@Test
+	public void returnAFailureWithoutError()
+	{
+		final Result<List<Integer>, String> result = Stream.of(Result.<Integer, String> withValue(1),
+				new Failure<Integer, String>(null), Result.<Integer, String> withValue(2))
+				.collect(ResultCollectors.toResult());
+		assertThat(result, isFailure());
+		assertThat(result.getError(), is((String) null));
+	}
+
+	@Test
+	public void combineAnEmptyStreamIntoAnEmptyList()
+	{
+		assertThat(Stream.<Result<String, Message>> empty().collect(ResultCollectors.toResult()).getValue(),
+				is(empty()));
+	}
+
+	@Test
+	public void skipResultsWithoutValue()
+	{
+		assertThat(Stream.of(Result.<Message> withoutValue()).collect(ResultCollectors.successes()),
+				is(empty()));
+		assertThat(Stream.of(Result.<String, Message> withValue("Value")).collect(ResultCollectors.toResult()),
+				hasValue(Collections.singletonList("Value")));
+	}
+
+	@Test
+	public void countResultsByOutcome()
+	{
+		final ResultCollectors.Counts counts = results(true).collect(ResultCollectors.counting());
+		assertThat(counts.getFailures(), is((long) (SIZE + 2) / 3));
+		assertThat(counts.getSuccesses(), is(SIZE - counts.getFailures()));
+		assertThat(counts.getTotal(), is((long) SIZE));
+	}
+
+	@Test
+	public void keepTheEncounterOrderOfSmallStreams()
+	{
+		assertThat(Stream.of(Result.<String, String> withValue("a"), Result.<String, String> withError("b"),
+				Result.<String, String> withValue("c")).parallel().collect(ResultCollectors.successes()),
+				contains("a", "c"));
+	}
+}
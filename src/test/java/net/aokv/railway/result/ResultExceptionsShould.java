@@ -0,0 +1,71 @@
+package net.aokv.railway.result;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ResultExceptionsShould
+{
+	private static final String THE_ERROR = "The Error";
+
+	@AfterEach
+	public void disableStacklessMode()
+	{
+		ResultExceptions.setStackless(false);
+	}
+
+	@Test
+	public void captureStackTracesByDefault()
+	{
+		assertThat(ResultExceptions.isStackless(), is(false));
+		final FailedResultHasNoValueException exception = assertThrows(FailedResultHasNoValueException.class,
+				() -> Result.withError(THE_ERROR).getValue());
+		assertThat(exception.getStackTrace().length > 0, is(true));
+		assertThat(ResultExceptions.emptyResultHasNoValue(), is(not(sameInstance(
+				ResultExceptions.emptyResultHasNoValue()))));
+	}
+
+	@Test
+	public void createExceptionsWithoutStackTracesInStacklessMode()
+	{
+		ResultExceptions.setStackless(true);
+		final FailedResultHasNoValueException failed = assertThrows(FailedResultHasNoValueException.class,
+				() -> Result.withError(THE_ERROR).getValue());
+		final SuccessfulResultHasNoErrorException successful = assertThrows(
+				SuccessfulResultHasNoErrorException.class, () -> Result.withValue(THE_ERROR).getError());
+		final EmptyResultHasNoValueException empty = assertThrows(EmptyResultHasNoValueException.class,
+				() -> Result.withoutValue().getValue());
+		assertThat(failed.getError(), is(THE_ERROR));
+		assertThat(failed.getStackTrace().length, is(0));
+		assertThat(successful.getStackTrace().length, is(0));
+		assertThat(empty.getStackTrace().length, is(0));
+	}
+
+	@Test
+	public void sharePreallocatedExceptionsWithoutPayload()
+	{
+		ResultExceptions.setStackless(true);
+		final EmptyResultHasNoValueException empty = ResultExceptions.emptyResultHasNoValue();
+		empty.addSuppressed(new IllegalStateException());
+		empty.setStackTrace(new Exception().getStackTrace());
+		assertThat(ResultExceptions.emptyResultHasNoValue(), is(sameInstance(empty)));
+		assertThat(ResultExceptions.successfulResultHasNoError(),
+				is(sameInstance(ResultExceptions.successfulResultHasNoError())));
+		assertThat(empty.getSuppressed().length, is(0));
+		assertThat(empty.getStackTrace().length, is(0));
+	}
+
+	@Test
+	public void throwStacklessExceptionsFromPrimitiveResults()
+	{
+		ResultExceptions.setStackless(true);
+		final FailedResultHasNoValueException exception = assertThrows(FailedResultHasNoValueException.class,
+				() -> IntResult.withError(THE_ERROR).getValue());
+		assertThat(exception.getStackTrace().length, is(0));
+	}
+}
@@ -4,9 +4,14 @@ import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
 import static net.aokv.railway.result.matchers.ResultMatcher.isFailure;
 import static net.aokv.railway.result.matchers.ResultMatcher.isFailureWithMessage;
 import static net.aokv.railway.result.matchers.ResultMatcher.isSuccess;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -114,4 +119,54 @@ public class ResultShould
 		assertThat(THE_RESULT.combine(FAILED_RESULT), isFailure());
 		assertThat(RESULT_WITHOUT_VALUE.combine(FAILED_RESULT), isFailure());
 	}
+
+	@Test
+	public void traverseAListOfInputs()
+	{
+		assertThat(Result.traverse(Arrays.asList("a", "bb", "ccc"),
+				value -> Result.<Integer, Message> withValue(value.length())),
+				hasValue(Arrays.asList(1, 2, 3)));
+	}
+
+	@Test
+	public void stopTraversingAtTheFirstFailure()
+	{
+		final Container c = new Container("");
+		final Result<List<Integer>, Message> result = Result.traverse(Arrays.asList("a", "", "ccc"),
+				value ->
+				{
+					c.setString(c.getString() + value);
+					return Result.with(value.isEmpty() ? null : value.length(), THE_ERROR);
+				});
+		assertThat(result, isFailureWithMessage(THE_ERROR));
+		assertThat(c.getString(), is("a"));
+	}
+
+	@Test
+	public void beCreatedFromACallThatMayThrow()
+	{
+		assertThat(Result.attempt(() -> THE_VALUE, exception -> THE_ERROR), hasValue(THE_VALUE));
+		assertThat(Result.<String, Message> attempt(() ->
+		{
+			throw new IOException("Disk full");
+		}, exception -> Message.withError(exception.getMessage())).getError().getText(), is("Disk full"));
+	}
+
+	@Test
+	public void rejectCallsThatReturnNull()
+	{
+		assertThrows(IllegalArgumentException.class, () -> Result.attempt(() -> null, exception -> THE_ERROR));
+	}
+
+	@Test
+	public void keepTheExceptionIfTheMapperReturnsNull()
+	{
+		final IOException diskFull = new IOException("Disk full");
+		final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> Result.<String, Message> attempt(() ->
+				{
+					throw diskFull;
+				}, e -> null));
+		assertSame(diskFull, exception.getCause());
+	}
 }
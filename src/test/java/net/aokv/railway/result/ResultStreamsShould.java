@@ -0,0 +1,89 @@
+package net.aokv.railway.result;
+
+import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultStreamsShould
+{
+	private static final int SIZE = 1_000_000;
+
+	private static Iterator<Integer> records()
+	{
+		return IntStream.range(0, SIZE).iterator();
+	}
+
+	private static Result<Integer, String> check(final Integer record)
+	{
+		return record >= 0 ? Result.withValue(record) : Result.withError("Negative record " + record);
+	}
+
+	@Test
+	public void streamTheResultsLazily()
+	{
+		final Container c = new Container("");
+		final Iterator<String> inputs = Arrays.asList("a", "bb", "ccc").iterator();
+		final List<Result<Integer, String>> results = ResultStreams
+				.stream(inputs, (final String value) ->
+				{
+					c.setString(c.getString() + value);
+					return Result.<Integer, String> withValue(value.length());
+				})
+				.limit(2)
+				.collect(Collectors.toList());
+		assertThat(results.size(), is(2));
+		assertThat(c.getString(), is("abb"));
+	}
+
+	@Test
+	public void streamTheResultsOfASpliterator()
+	{
+		final List<Integer> lengths = ResultStreams
+				.stream(Arrays.asList("a", "bb").spliterator(), value -> Result.<Integer, String> withValue(value.length()))
+				.collect(ResultCollectors.successes());
+		assertThat(lengths, is(Arrays.asList(1, 2)));
+	}
+
+	@Test
+	public void reduceAllInputs()
+	{
+		assertThat(ResultStreams.reduce(records(), ResultStreamsShould::check, 0L, (sum, value) -> sum + value),
+				hasValue((long) SIZE * (SIZE - 1) / 2));
+	}
+
+	@Test
+	public void stopReadingInputsAtTheFirstFailure()
+	{
+		final Iterator<Integer> inputs = Arrays.asList(1, -2, 3, -4).iterator();
+		final Result<Long, String> result = ResultStreams.reduce(inputs, ResultStreamsShould::check, 0L,
+				(sum, value) -> sum + value);
+		assertThat(result.getError(), is("Negative record -2"));
+		assertThat(inputs.next(), is(3));
+	}
+
+	@Test
+	public void countValidInputs()
+	{
+		assertThat(ResultStreams.validate(records(), ResultStreamsShould::check), hasValue((long) SIZE));
+		assertThat(ResultStreams.validate(Arrays.asList(1, 2, -3).spliterator(), ResultStreamsShould::check)
+				.getError(), is("Negative record -3"));
+	}
+
+	@Test
+	public void validateAndCollectInParallel()
+	{
+		final List<Integer> inputs = Arrays.asList(1, 2, 3, -4, 5, -6);
+		assertThat(ResultStreams.validateParallel(inputs.subList(0, 3).spliterator(), ResultStreamsShould::check),
+				hasValue(3L));
+		assertThat(ResultStreams.collectParallel(inputs.spliterator(), ResultStreamsShould::check,
+				Collectors.toList()).getError(), is("Negative record -4"));
+	}
+}
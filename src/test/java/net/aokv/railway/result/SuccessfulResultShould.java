@@ -5,9 +5,13 @@ import static net.aokv.railway.result.matchers.ResultMatcher.isFailure;
 import static net.aokv.railway.result.matchers.ResultMatcher.isFailureWithMessage;
 import static net.aokv.railway.result.matchers.ResultMatcher.isSuccess;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import net.aokv.railway.message.Message;
@@ -112,6 +116,15 @@ public class SuccessfulResultShould
 		assertThat(result, isFailureWithMessage(THE_ERROR));
 	}
 
+	@Test
+	public void acceptANullErrorForItsCheck()
+	{
+		assertThat(THE_RESULT.ensure(value -> true, null), hasValue(THE_VALUE));
+		final Result<String, Message> result = THE_RESULT.ensure(value -> false, null);
+		assertThat(result, isFailure());
+		assertThat(result.getError(), is(nullValue()));
+	}
+
 	@Test
 	public void checkItsValueRaisingAnException()
 	{
@@ -137,4 +150,32 @@ public class SuccessfulResultShould
 		assertThat(THE_RESULT.flatMap(value -> Result.withValue(value.length())),
 				hasValue(THE_VALUE.length()));
 	}
+
+	@Test
+	public void mapItsValueWithAFunctionThatMayThrow()
+	{
+		assertThat(THE_RESULT.attemptMap(value -> value.length(), exception -> THE_ERROR),
+				hasValue(THE_VALUE.length()));
+		assertThat(THE_RESULT.attemptMap(value ->
+		{
+			throw new IOException(value);
+		}, exception -> THE_ERROR), isFailureWithMessage(THE_ERROR));
+	}
+
+	@Test
+	public void rejectANullValueOfAFunctionThatMayThrow()
+	{
+		assertThrows(IllegalArgumentException.class, () -> THE_RESULT.attemptMap(value -> null, exception -> THE_ERROR));
+	}
+
+	@Test
+	public void appendItselfInTheSameFormatAsToString() throws IOException
+	{
+		final String expected = "Result (Success with value <" + THE_VALUE + ">)";
+		assertThat(THE_RESULT.toString(), is(expected));
+		assertThat(THE_RESULT.appendTo(new StringBuilder()).toString(), is(expected));
+		assertThat(THE_RESULT.appendTo(new StringWriter()).toString(), is(expected));
+		assertThat(Result.withValue(THE_RESULT).toString(), is("Result (Success with value <" + expected + ">)"));
+		assertThat(Result.withoutValue().toString(), is("Result (Success)"));
+	}
 }
@@ -4,6 +4,7 @@ import static net.aokv.railway.result.matchers.ResultMatcher.hasValue;
 import static net.aokv.railway.result.matchers.ResultMatcher.isSuccess;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -103,4 +104,10 @@ public class SuccessfulResultWithoutValueShould
 	{
 		assertThrows(EmptyResultHasNoValueException.class, () -> THE_RESULT.ensure(wert -> false, THE_ERROR));
 	}
+
+	@Test
+	public void beShared()
+	{
+		assertSame(THE_RESULT, Result.withoutValue());
+	}
 }
@@ -0,0 +1,52 @@
+package net.aokv.railway.testing;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures the bytes allocated by the current thread while running an action. Relies on the
+ * HotSpot specific <code>com.sun.management.ThreadMXBean</code>.
+ */
+public class AllocationMeter
+{
+	private static final int WARMUP_ITERATIONS = 20_000;
+
+	private final ThreadMXBean threadBean;
+
+	public AllocationMeter()
+	{
+		threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	/**
+	 * Runs the action repeatedly and returns the average number of bytes it allocated per
+	 * iteration. The action is warmed up first, so one-time costs like lambda linkage are not
+	 * counted.
+	 *
+	 * @param iterations Number of measured iterations.
+	 * @param action The action to measure.
+	 * @return Average allocated bytes per iteration.
+	 */
+	public double bytesPerIteration(final int iterations, final Runnable action)
+	{
+		for (int i = 0; i < WARMUP_ITERATIONS; i++)
+		{
+			action.run();
+		}
+		final long overhead = measure(0, action);
+		return (double) (measure(iterations, action) - overhead) / iterations;
+	}
+
+	private long measure(final int iterations, final Runnable action)
+	{
+		final long threadId = Thread.currentThread().getId();
+		final long before = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++)
+		{
+			action.run();
+		}
+		return threadBean.getThreadAllocatedBytes(threadId) - before;
+	}
+}
@@ -0,0 +1,62 @@
+package net.aokv.railway.text;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+import net.aokv.railway.result.Result;
+
+public class RenderableShould
+{
+	private static final class Pieces implements Appendable
+	{
+		private final List<String> pieces = new ArrayList<>();
+
+		@Override
+		public Appendable append(final CharSequence csq)
+		{
+			pieces.add(String.valueOf(csq));
+			return this;
+		}
+
+		@Override
+		public Appendable append(final CharSequence csq, final int start, final int end)
+		{
+			return append(String.valueOf(csq).subSequence(start, end));
+		}
+
+		@Override
+		public Appendable append(final char c)
+		{
+			return append(String.valueOf(c));
+		}
+	}
+
+	private static final Renderable GREETING = appendable -> appendable.append("Hello ").append("world");
+
+	@Test
+	public void appendToStringBuildersAndOtherAppendables() throws IOException
+	{
+		assertThat(GREETING.appendTo(new StringBuilder("> ")).toString(), is("> Hello world"));
+		assertThat(GREETING.appendTo(new StringWriter()).toString(), is("Hello world"));
+		final StringBuilder number = new StringBuilder();
+		Renderable.append(number, 42);
+		assertThat(number.toString(), is("42"));
+	}
+
+	@Test
+	public void renderNestedRenderablesPieceByPiece() throws IOException
+	{
+		final Result<String, Message> result = Result.withError(Message.withError("The error"));
+		final Pieces pieces = result.appendTo(new Pieces());
+		assertThat(String.join("", pieces.pieces), is(result.toString()));
+		assertThat(pieces.pieces.contains(result.getError().toString()), is(false));
+	}
+}
@@ -0,0 +1,155 @@
+package net.aokv.railway.valueobjects;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+import net.aokv.railway.message.Message;
+import net.aokv.railway.message.MessageLevel;
+import net.aokv.railway.result.Result;
+
+public class PrimitiveValueProcessorShould
+{
+	@PrimitiveValue
+	public interface AgeDefinition
+	{
+		int years();
+
+		static boolean isValid(final int years)
+		{
+			return years >= 0 && years < 150;
+		}
+	}
+
+	@PrimitiveValue(name = "Amount")
+	public interface AmountInCents
+	{
+		long cents();
+	}
+
+	@PrimitiveValue
+	public interface RatioDefinition
+	{
+		double value();
+	}
+
+	@Test
+	public void generateAFactoryThatReturnsValidValues()
+	{
+		final Result<Age, Message> age = Age.of(42);
+		assertThat(age.isSuccess(), is(true));
+		assertThat(age.getValue().years(), is(42));
+		assertThat(Amount.of(-1999L).getValue().cents(), is(-1999L));
+	}
+
+	@Test
+	public void generateAFactoryThatReturnsAnErrorMessageForInvalidValues()
+	{
+		final Result<Age, Message> age = Age.of(-1);
+		assertThat(age.isFailure(), is(true));
+		assertThat(age.getError().getLevel(), is(MessageLevel.ERROR));
+		assertThat(age.getError().getSource(), is("Age"));
+		assertThat(age.getError().getText(), is("Invalid Age: -1."));
+	}
+
+	@Test
+	public void compareAndHashByTheirPrimitiveValues()
+	{
+		assertThat(Age.of(42).getValue(), is(Age.of(42).getValue()));
+		assertThat(Age.of(42).getValue(), is(not(Age.of(43).getValue())));
+		assertThat(Age.of(42).getValue().hashCode(), is(Integer.hashCode(42)));
+		assertThat(Amount.of(42L).getValue().hashCode(), is(Long.hashCode(42L)));
+		assertThat(Age.of(42).getValue().equals(Amount.of(42L).getValue()), is(false));
+		assertThat(Ratio.of(Double.NaN).getValue(), is(Ratio.of(Double.NaN).getValue()));
+		assertThat(Ratio.of(0.0).getValue(), is(not(Ratio.of(-0.0).getValue())));
+	}
+
+	@Test
+	public void beFormattedLikeAValueObject()
+	{
+		assertThat(Age.of(42).getValue().toString(), is("Age (42)"));
+		assertThat(Ratio.of(0.5).getValue().toString(), is("Ratio (0.5)"));
+	}
+
+	@Test
+	public void beSerializable() throws IOException, ClassNotFoundException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes))
+		{
+			stream.writeObject(Age.of(42).getValue());
+		}
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			assertThat(stream.readObject(), is(Age.of(42).getValue()));
+		}
+	}
+
+	@Test
+	public void reportDefinitionsWithoutASinglePrimitiveAccessor() throws URISyntaxException
+	{
+		assertThat(compile("@PrimitiveValue interface NameDefinition { String value(); }"),
+				containsString("NameDefinition needs exactly one method without parameters that returns a primitive value."));
+		assertThat(compile("@PrimitiveValue interface PointDefinition { int x(); int y(); }"),
+				containsString("PointDefinition needs exactly one method"));
+	}
+
+	@Test
+	public void reportInvalidValidatorsAndNames() throws URISyntaxException
+	{
+		assertThat(compile("@PrimitiveValue interface AgeDefinition { int value(); "
+				+ "static boolean isValid(long value) { return true; } }"),
+				containsString("isValid has to be static, return boolean and take a int."));
+		assertThat(compile("@PrimitiveValue interface Age { int value(); }"),
+				containsString("Age needs a name or the suffix Definition."));
+		assertThat(compile("@PrimitiveValue class AgeDefinition { }"),
+				containsString("@PrimitiveValue is only allowed on interfaces."));
+	}
+
+	private static String compile(final String definition) throws URISyntaxException
+	{
+		final String classpath = Paths.get(
+				PrimitiveValue.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		final String source = "package test; import net.aokv.railway.valueobjects.PrimitiveValue; " + definition;
+		final JavaFileObject file = new SimpleJavaFileObject(
+				URI.create("string:///test/Definition.java"), JavaFileObject.Kind.SOURCE)
+		{
+			@Override
+			public CharSequence getCharContent(final boolean ignoreEncodingErrors)
+			{
+				return source;
+			}
+		};
+		final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+				Arrays.asList("-proc:only", "-classpath", classpath),
+				null, Collections.singletonList(file));
+		task.setProcessors(Collections.singletonList(new PrimitiveValueProcessor()));
+		task.call();
+		return diagnostics.getDiagnostics().stream()
+				.map(diagnostic -> diagnostic.getMessage(null))
+				.collect(Collectors.joining("\n"));
+	}
+}
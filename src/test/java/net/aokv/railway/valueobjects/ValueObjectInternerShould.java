@@ -0,0 +1,89 @@
+package net.aokv.railway.valueobjects;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class ValueObjectInternerShould
+{
+	@SuppressWarnings("serial")
+	private static class CountryCode extends ValueObject<String>
+	{
+		public CountryCode(final String value)
+		{
+			super(value);
+		}
+	}
+
+	private final ValueObjectInterner<CountryCode> sut = ValueObjectInterner.create();
+
+	@Test
+	public void returnTheSameInstanceForEqualValueObjects()
+	{
+		final CountryCode first = sut.intern(new CountryCode("DE"));
+		final CountryCode second = sut.intern(new CountryCode(new String("DE")));
+		assertThat(second, is(sameInstance(first)));
+	}
+
+	@Test
+	public void returnDifferentInstancesForDifferentValueObjects()
+	{
+		final CountryCode germany = sut.intern(new CountryCode("DE"));
+		final CountryCode france = sut.intern(new CountryCode("FR"));
+		assertThat(france, is(not(sameInstance(germany))));
+		assertThat(france.getValue(), is("FR"));
+	}
+
+	@Test
+	public void keepValueObjectsOfDifferentTypesApart()
+	{
+		@SuppressWarnings("serial")
+		class LanguageCode extends ValueObject<String>
+		{
+			LanguageCode(final String value)
+			{
+				super(value);
+			}
+		}
+		final ValueObjectInterner<ValueObject<String>> interner = ValueObjectInterner.create();
+		final ValueObject<String> country = interner.intern(new CountryCode("DE"));
+		final ValueObject<String> language = interner.intern(new LanguageCode("DE"));
+		assertThat(language, is(not(sameInstance(country))));
+		assertThat(interner.intern(new LanguageCode("DE")), is(sameInstance(language)));
+	}
+
+	@Test
+	public void returnTheSameInstanceToConcurrentThreads() throws InterruptedException, ExecutionException
+	{
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		final List<Future<CountryCode>> codes = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+		{
+			codes.add(executor.submit(() -> sut.intern(new CountryCode(new String("DE")))));
+		}
+		executor.shutdown();
+		final CountryCode shared = codes.get(0).get();
+		for (final Future<CountryCode> code : codes)
+		{
+			assertThat(code.get(), is(sameInstance(shared)));
+		}
+	}
+
+	@Test
+	public void throwExceptionIfValueObjectIsNull()
+	{
+		final IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> sut.intern(null));
+		assertThat(e.getMessage(), is("ValueObject may not be null."));
+	}
+}
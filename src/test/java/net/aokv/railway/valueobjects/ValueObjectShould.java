@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.base.Objects;
+
 public class ValueObjectShould
 {
 	@SuppressWarnings("serial")
@@ -62,6 +64,24 @@ public class ValueObjectShould
 				is(not(createValueObject(124).hashCode())));
 	}
 
+	@Test
+	public void computeTheSameHashCodeAsBefore()
+	{
+		final ValueObject<String> valueObject = createValueObject("The string");
+		assertThat(valueObject.hashCode(), is(Objects.hashCode("The string")));
+		assertThat(valueObject.hashCode(), is(Objects.hashCode("The string")));
+		assertThat(createValueObject(123).hashCode(), is(Objects.hashCode(123)));
+	}
+
+	@Test
+	public void notBeEqualToValueObjectOfAnotherClassWithSameHashCode()
+	{
+		final ValueObject<String> valueObject = createValueObject("123");
+		valueObject.hashCode();
+		assertThat(valueObject.equals(createValueObject(123)), is(false));
+		assertThat(createValueObject("Aa"), is(not(createValueObject("BB"))));
+	}
+
 	@Test
 	public void beEqualToValueObjectWithSameValue()
 	{